@@ -0,0 +1,55 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.properties.IntProperty;
+import net.orbyfied.aspen.annotation.Option;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.file.Files;
+
+public class AsyncSaveTest {
+
+    @Test
+    void testCoalescedSave() throws Exception {
+        ConfigurationProvider provider = Tests.configurationProvider().fork()
+                .asyncSave(true)
+                .saveDelay(60_000);
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(provider, o);
+        Files.deleteIfExists(p.file());
+        IntProperty value = (IntProperty) p.schema().getProperty("value");
+
+        /* 1: sets only mark the profile dirty */
+        for (int i = 1; i <= 50; i++)
+            value.setInt(i);
+        Assertions.assertTrue(provider.saveManager().isPending(p));
+        Assertions.assertFalse(Files.exists(p.file()));
+
+        /* 2: flush writes the coalesced changes once */
+        p.flush();
+        Assertions.assertFalse(provider.saveManager().isPending(p));
+        Assertions.assertTrue(Files.readString(p.file()).contains("value: 50"));
+
+        /* 3: loading does not mark the profile dirty */
+        p.load();
+        Assertions.assertFalse(provider.saveManager().isPending(p));
+
+        /* 4: writes happen in the background after the delay */
+        provider.saveDelay(10);
+        value.setInt(7);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (provider.saveManager().isPending(p) && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        provider.saveManager().close();
+        Assertions.assertTrue(Files.readString(p.file()).contains("value: 7"));
+    }
+
+    static class TestProfile {
+        @Option
+        int value;
+    }
+
+}
@@ -0,0 +1,62 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.Accessor;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.properties.SimpleProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class AtomicSaveTest {
+
+    @Test
+    void testAtomicSave() throws Exception {
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(o);
+        Path dir = p.file().getParent();
+
+        /* 1: saves utf-8 content */
+        p.save();
+        String saved = Files.readString(p.file(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(saved.contains("\u00e4spen"));
+
+        /* 2: saves keep the permissions of the file */
+        if (Files.getFileAttributeView(p.file(), PosixFileAttributeView.class) != null) {
+            Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+            Files.setPosixFilePermissions(p.file(), permissions);
+            o.name = "saved again";
+            p.save();
+            Assertions.assertEquals(permissions, Files.getPosixFilePermissions(p.file()));
+            o.name = "\u00e4spen";
+            p.save();
+        }
+
+        /* 3: a failed save keeps the old content */
+        p.schema().withProperty(SimpleProperty.builder("broken", String.class)
+                .accessor(Accessor.dynamic(() -> { throw new IllegalStateException("crash"); }))
+                .build());
+        o.name = "changed";
+        Assertions.assertThrows(RuntimeException.class, p::save);
+        Assertions.assertEquals(saved, Files.readString(p.file(), StandardCharsets.UTF_8));
+        try (Stream<Path> files = Files.list(dir)) {
+            Assertions.assertTrue(files.noneMatch(f -> f.getFileName().toString().endsWith(".tmp")),
+                    "temporary file left behind");
+        }
+    }
+
+    static class TestProfile {
+        @Option
+        String name = "\u00e4spen";
+    }
+
+}
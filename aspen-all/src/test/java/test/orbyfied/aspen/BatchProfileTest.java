@@ -0,0 +1,59 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.BatchResult;
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.annotation.Option;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class BatchProfileTest {
+
+    @Test
+    void testBatchLoadSave() throws Exception {
+        ConfigurationProvider provider = Tests.configurationProvider().fork()
+                .batchConcurrency(4);
+        Path dir = Files.createTempDirectory("aspen-batch");
+        List<TestProfile> instances = new ArrayList<>();
+        List<OptionProfile> profiles = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            TestProfile o = new TestProfile();
+            o.value = i;
+            instances.add(o);
+            profiles.add(provider.composeProfile("batch" + i, o, dir.resolve("batch" + i + ".yml")));
+        }
+
+        /* 1: save and load all */
+        BatchResult saved = provider.saveAll(profiles).get(10, TimeUnit.SECONDS);
+        Assertions.assertTrue(saved.isSuccessful());
+        Assertions.assertEquals(20, saved.succeeded().size());
+
+        instances.forEach(o -> o.value = -1);
+        BatchResult loaded = provider.loadAll(profiles).get(10, TimeUnit.SECONDS);
+        loaded.throwIfFailed();
+        for (int i = 0; i < 20; i++)
+            Assertions.assertEquals(i, instances.get(i).value);
+
+        /* 2: failures are reported per profile */
+        Files.writeString(dir.resolve("batch3.yml"), "value: [broken");
+        BatchResult failed = provider.loadAll(profiles).get(10, TimeUnit.SECONDS);
+        Assertions.assertFalse(failed.isSuccessful());
+        Assertions.assertEquals(1, failed.failures().size());
+        Assertions.assertTrue(failed.failures().containsKey(profiles.get(3)));
+        Assertions.assertEquals(19, failed.succeeded().size());
+        Assertions.assertThrows(RuntimeException.class, failed::throwIfFailed);
+    }
+
+    static class TestProfile {
+        @Option
+        int value;
+    }
+
+}
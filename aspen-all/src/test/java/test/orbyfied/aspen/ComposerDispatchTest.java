@@ -0,0 +1,110 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionComposer;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.context.OptionComposeContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ComposerDispatchTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marked { }
+
+    // counts the calls to matches
+    static class CountingComposer implements OptionComposer {
+        final AtomicInteger matches = new AtomicInteger();
+        final AtomicInteger configured = new AtomicInteger();
+        final boolean hasStaticMatch;
+
+        CountingComposer(boolean hasStaticMatch) {
+            this.hasStaticMatch = hasStaticMatch;
+        }
+
+        @Override
+        public int exactness() {
+            return 10;
+        }
+
+        @Override
+        public boolean matches(OptionComposeContext context) {
+            matches.incrementAndGet();
+            return context.element().isAnnotationPresent(Marked.class);
+        }
+
+        @Override
+        public boolean hasStaticMatch() {
+            return hasStaticMatch;
+        }
+
+        @Override
+        public boolean open(OptionComposeContext context) {
+            return false;
+        }
+
+        @Override
+        public void configure(OptionComposeContext context) {
+            configured.incrementAndGet();
+        }
+    }
+
+    static OptionComposeContext context(ConfigurationProvider provider, String field) throws Exception {
+        Field f = Fields.class.getDeclaredField(field);
+        return new OptionComposeContext(provider, null, null, f.getName(), f.getType(), f);
+    }
+
+    @Test
+    void testDispatchCache() throws Exception {
+        ConfigurationProvider provider = Tests.configurationProvider().fork();
+        CountingComposer composer = new CountingComposer(true);
+        provider.withOptionComposer(composer);
+
+        /* 1: static matches are cached per type and annotations */
+        OptionComposer p1 = provider.findOptionComposerPipeline(context(provider, "a"));
+        OptionComposer p2 = provider.findOptionComposerPipeline(context(provider, "b"));
+        provider.findOptionComposerPipeline(context(provider, "c"));
+        Assertions.assertSame(p1, p2);
+        Assertions.assertEquals(2, composer.matches.get());
+
+        OptionComposeContext ctx = context(provider, "a");
+        p1.configure(ctx);
+        Assertions.assertEquals(1, composer.configured.get());
+
+        /* 2: registering composers invalidates the cache */
+        CountingComposer dynamic = new CountingComposer(false);
+        provider.withOptionComposer(dynamic);
+        provider.findOptionComposerPipeline(context(provider, "a"));
+        provider.findOptionComposerPipeline(context(provider, "b"));
+        Assertions.assertEquals(3, composer.matches.get());
+        Assertions.assertEquals(2, dynamic.matches.get());
+
+        OptionComposer p3 = provider.findOptionComposerPipeline(context(provider, "a"));
+        p3.configure(context(provider, "a"));
+        Assertions.assertEquals(1, dynamic.configured.get());
+        Assertions.assertEquals(2, composer.configured.get());
+
+        provider.removeOptionComposer(dynamic);
+        provider.findOptionComposerPipeline(context(provider, "a"));
+        Assertions.assertEquals(3, dynamic.matches.get());
+        Assertions.assertEquals(4, composer.matches.get());
+    }
+
+    static class Fields {
+        @Option @Marked
+        String a;
+
+        @Option @Marked
+        String b;
+
+        @Option
+        String c;
+    }
+
+}
@@ -0,0 +1,108 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigSnapshot;
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.annotation.Section;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ConfigSnapshotTest {
+
+    static String document(int value) {
+        return "a: " + value + "\nsec:\n  b: " + value + "\n";
+    }
+
+    @Test
+    void testSnapshots() throws Exception {
+        ConfigurationProvider provider = Tests.configurationProvider().fork()
+                .snapshots(true);
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(provider, o);
+        Files.createDirectories(p.file().getParent());
+        Assertions.assertNull(p.snapshot());
+
+        /* 1: load publishes a snapshot */
+        Files.writeString(p.file(), document(1));
+        p.load();
+        ConfigSnapshot first = p.snapshot();
+        ConfigSnapshot.Key<Integer> key = first.key("sec/b");
+        Assertions.assertEquals(1, (int) first.get("a"));
+        Assertions.assertEquals(1, first.get(key));
+
+        /* 2: earlier snapshots are unchanged */
+        Files.writeString(p.file(), document(2));
+        p.load();
+        ConfigSnapshot second = p.snapshot();
+        Assertions.assertEquals(1, first.get(key));
+        Assertions.assertEquals(2, second.get(key));
+        Assertions.assertTrue(second.generation() > first.generation());
+        Assertions.assertEquals(2, second.toMap().size());
+
+        /* 3: readers never see a mix of two loads */
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> torn = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                ConfigSnapshot s = p.snapshot();
+                Integer a = s.get("a");
+                Integer b = s.get(key);
+                if (!a.equals(b))
+                    torn.set(a + " != " + b);
+            }
+        });
+
+        reader.start();
+        for (int i = 0; i < 200; i++) {
+            Files.writeString(p.file(), document(i));
+            p.load();
+        }
+
+        done.set(true);
+        reader.join();
+        Assertions.assertNull(torn.get(), "torn snapshot");
+    }
+
+    @Test
+    void testStagedLoads() throws Exception {
+        ConfigurationProvider provider = Tests.configurationProvider().fork()
+                .snapshots(true);
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(provider, o);
+        Files.createDirectories(p.file().getParent());
+
+        /* 1: a successful load writes the fields */
+        Files.writeString(p.file(), document(1));
+        p.load();
+        ConfigSnapshot first = p.snapshot();
+        Assertions.assertEquals(1, (int) o.a);
+        Assertions.assertEquals(1, (int) o.sec.b);
+
+        /* 2: a failed load changes neither the fields nor the snapshot */
+        Files.writeString(p.file(), "a: 2\nsec:\n  b: hello\n");
+        Assertions.assertThrows(RuntimeException.class, () -> p.load(true));
+        Assertions.assertEquals(1, (int) o.a);
+        Assertions.assertEquals(1, (int) o.sec.b);
+        Assertions.assertSame(first, p.snapshot());
+    }
+
+    static class TestProfile {
+        static class Sec {
+            @Option
+            Integer b = 0;
+        }
+
+        @Option
+        Integer a = 0;
+
+        @Section(name = "sec")
+        Sec sec = new Sec();
+    }
+
+}
@@ -0,0 +1,72 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.Property;
+import net.orbyfied.aspen.Schema;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.annotation.Section;
+import net.orbyfied.aspen.raw.nodes.RawObjectNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+
+public class DirtyTrackingTest {
+
+    @Test
+    void testDirtyTracking() throws Exception {
+        ConfigurationProvider provider = Tests.configurationProvider().fork()
+                .dirtyTracking(true);
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(provider, o);
+        Schema a = p.schema().getSection("a");
+        Schema b = p.schema().getSection("b");
+
+        /* 1: the first save writes, later saves of clean profiles are skipped */
+        Assertions.assertTrue(p.isDirty());
+        p.save();
+        Assertions.assertFalse(p.isDirty());
+        FileTime marker = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(p.file(), marker);
+        p.save();
+        Assertions.assertEquals(marker, Files.getLastModifiedTime(p.file()));
+
+        /* 2: setting a value marks the property and its sections dirty */
+        RawObjectNode cleanB = b.emit(provider.newEmitContext(p));
+        Property value = p.schema().findProperty("a/value");
+        value.set(5);
+        Assertions.assertTrue(value.isDirty());
+        Assertions.assertTrue(a.isDirty());
+        Assertions.assertFalse(b.isDirty());
+        Assertions.assertTrue(p.isDirty());
+
+        /* 3: clean sections reuse their nodes */
+        Assertions.assertSame(cleanB, b.emit(provider.newEmitContext(p)));
+        p.save();
+        Assertions.assertFalse(value.isDirty());
+        Assertions.assertFalse(p.isDirty());
+        Assertions.assertNotEquals(marker, Files.getLastModifiedTime(p.file()));
+        Assertions.assertTrue(Files.readString(p.file()).contains("value: 5"));
+
+        /* 4: loading marks the profile dirty */
+        p.load();
+        Assertions.assertTrue(p.isDirty());
+    }
+
+    static class TestProfile {
+        static class Sec {
+            @Option
+            int value = 1;
+        }
+
+        @Section(name = "a")
+        Sec a = new Sec();
+
+        @Section(name = "b")
+        Sec b = new Sec();
+    }
+
+}
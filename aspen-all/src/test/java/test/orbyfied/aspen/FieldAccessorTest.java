@@ -0,0 +1,43 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.FieldAccessor;
+import net.orbyfied.aspen.MemoryOrder;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.annotation.Option;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+public class FieldAccessorTest {
+
+    @Test
+    void testMemoryOrder() {
+        // ordered accesses by default
+        Assertions.assertEquals(MemoryOrder.ACQUIRE_RELEASE, Tests.configurationProvider().fork().memoryOrder());
+
+        ConfigurationProvider provider = Tests.configurationProvider().fork()
+                .memoryOrder(MemoryOrder.OPAQUE);
+        TestProfile1 instance = new TestProfile1();
+        OptionProfile profile = provider.composeProfile("field-accessor", instance, Tests.file("field-accessor.yml"));
+
+        // the order is inherited from the provider
+        FieldAccessor<?> accessor = (FieldAccessor<?>) profile.schema().getProperty("a").getAccessor();
+        Assertions.assertEquals(MemoryOrder.OPAQUE, accessor.order());
+
+        // values are published on load
+        long generation = profile.schema().generation();
+        instance.a = 7;
+        profile.save();
+        instance.a = 0;
+        profile.load();
+        Assertions.assertEquals(generation + 1, profile.schema().generation());
+        Assertions.assertEquals(7, profile.schema().getProperty("a").get());
+    }
+
+    static class TestProfile1 {
+        @Option
+        Integer a = 0;
+    }
+
+}
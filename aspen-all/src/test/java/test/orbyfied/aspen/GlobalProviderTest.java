@@ -0,0 +1,54 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class GlobalProviderTest {
+
+    @Test
+    void testRegistry() throws Exception {
+        Assertions.assertNull(ConfigurationProvider.getGlobal(ArrayList.class));
+
+        /* 1: packages include their subpackages */
+        ConfigurationProvider concurrent = ConfigurationProvider.newGlobalUnderPackage("java.util.concurrent");
+        Assertions.assertSame(concurrent, ConfigurationProvider.getGlobal(ConcurrentHashMap.class));
+        Assertions.assertSame(concurrent, ConfigurationProvider.getGlobal(AtomicInteger.class));
+        Assertions.assertSame(concurrent, ConfigurationProvider.getGlobal(ReentrantLock.class));
+        Assertions.assertNull(ConfigurationProvider.getGlobal(ArrayList.class));
+
+        /* 2: the first registration wins, cached misses are dropped */
+        ConfigurationProvider atomic = ConfigurationProvider.newGlobalUnderPackage("java.util.concurrent.atomic.");
+        ConfigurationProvider list = ConfigurationProvider.newGlobal(klass -> klass == ArrayList.class || klass == AtomicInteger.class);
+        Assertions.assertSame(concurrent, ConfigurationProvider.getGlobal(AtomicInteger.class));
+        Assertions.assertSame(list, ConfigurationProvider.getGlobal(ArrayList.class));
+        Assertions.assertNotSame(atomic, list);
+
+        /* 3: concurrent lookups */
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger wrong = new AtomicInteger();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    if (ConfigurationProvider.getGlobal(ConcurrentHashMap.class) != concurrent ||
+                            ConfigurationProvider.getGlobal(ArrayList.class) != list)
+                        wrong.incrementAndGet();
+                }
+            });
+
+            thread.start();
+            threads.add(thread);
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+        Assertions.assertEquals(0, wrong.get());
+    }
+
+}
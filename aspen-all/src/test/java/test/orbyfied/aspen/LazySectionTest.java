@@ -0,0 +1,102 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.SectionProperty;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.annotation.Section;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.file.Files;
+
+public class LazySectionTest {
+
+    @Test
+    void testLazySections() throws Exception {
+        ConfigurationProvider provider = Tests.configurationProvider().fork()
+                .lazySections(true);
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(provider, o);
+        SectionProperty inner = (SectionProperty) p.schema().getProperty("inner");
+        SectionProperty other = (SectionProperty) p.schema().getProperty("other");
+
+        /* 1: sections are not composed up front */
+        Assertions.assertFalse(inner.isComposed());
+        Assertions.assertFalse(other.isComposed());
+
+        /* 2: loaded data is kept until first access */
+        Files.createDirectories(p.file().getParent());
+        Files.writeString(p.file(), "a: 2\ninner:\n  b: 3\nother:\n  c: 4\n");
+        p.load();
+        Assertions.assertEquals(2, o.a);
+        Assertions.assertFalse(inner.isComposed());
+        Assertions.assertEquals(0, o.inner.b);
+
+        Assertions.assertEquals(3, p.schema().findProperty("inner/b").get());
+        Assertions.assertTrue(inner.isComposed());
+        Assertions.assertFalse(other.isComposed());
+        Assertions.assertEquals(3, o.inner.b);
+
+        /* 3: emitting composes the remaining sections */
+        p.save();
+        Assertions.assertTrue(other.isComposed());
+        Assertions.assertEquals(4, o.other.c);
+        Assertions.assertTrue(Files.readString(p.file()).contains("c: 4"));
+    }
+
+    @Test
+    void testDeferredInstances() throws Exception {
+        ConfigurationProvider provider = Tests.configurationProvider().fork()
+                .lazySections(true)
+                .snapshots(true);
+        NullProfile o = new NullProfile();
+        OptionProfile p = Tests.compose(provider, o);
+        SectionProperty inner = (SectionProperty) p.schema().getProperty("inner");
+
+        /* 1: instances and snapshots do not compose the section */
+        Files.createDirectories(p.file().getParent());
+        Files.writeString(p.file(), "a: 2\ninner:\n  b: 3\n");
+        p.load();
+        Assertions.assertNull(o.inner);
+        Assertions.assertFalse(inner.isComposed());
+        Assertions.assertEquals(2, (int) p.snapshot().get("a"));
+        Assertions.assertFalse(p.snapshot().has("inner/b"));
+
+        /* 2: the instance is created on first access */
+        Assertions.assertEquals(3, p.schema().findProperty("inner/b").get());
+        Assertions.assertNotNull(o.inner);
+        Assertions.assertEquals(3, o.inner.b);
+    }
+
+    static class NullProfile {
+        @Option
+        int a = 0;
+
+        @Section(name = "inner")
+        TestProfile.Inner inner;
+    }
+
+    static class TestProfile {
+        static class Inner {
+            @Option
+            int b = 0;
+        }
+
+        static class Other {
+            @Option
+            int c = 0;
+        }
+
+        @Option
+        int a = 0;
+
+        @Section(name = "inner")
+        Inner inner = new Inner();
+
+        @Section(name = "other")
+        Other other = new Other();
+    }
+
+}
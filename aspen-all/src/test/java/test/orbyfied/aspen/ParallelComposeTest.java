@@ -0,0 +1,95 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionComposer;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.PropertyAccess;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.annotation.Options;
+import net.orbyfied.aspen.annotation.Section;
+import net.orbyfied.aspen.raw.nodes.RawNode;
+import net.orbyfied.aspen.raw.nodes.RawNodes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ParallelComposeTest {
+
+    @Test
+    void testParallelCompose() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ConfigurationProvider parallel = Tests.configurationProvider().fork()
+                .parallelCompose(true)
+                .withOptionComposer(OptionComposer.composeAllOfType(String.class, context -> {
+                    threads.add(Thread.currentThread().getName());
+                    return false;
+                }, context -> { }));
+
+        TestProfile sequentialInstance = new TestProfile();
+        TestProfile parallelInstance = new TestProfile();
+        OptionProfile sequential = Tests.compose(sequentialInstance);
+        OptionProfile p = Tests.compose(parallel, parallelInstance);
+
+        // same structure and order
+        RawNode expected = sequential.schema().emit(Tests.configurationProvider().newEmitContext(sequential));
+        RawNode actual = p.schema().emit(parallel.newEmitContext(p));
+        Assertions.assertTrue(RawNodes.contentEquals(expected, actual));
+        Assertions.assertEquals(
+                sequential.schema().allProperties().keySet().toString(),
+                p.schema().allProperties().keySet().toString());
+
+        // post tasks ran
+        Assertions.assertEquals("s1", parallelInstance.access.get());
+        Assertions.assertEquals("s3", parallelInstance.s3.access.get());
+        Assertions.assertFalse(threads.isEmpty());
+    }
+
+    static class Sec {
+        @Option
+        String value;
+
+        @Option(name = "value")
+        PropertyAccess<String> access;
+
+        Sec(String value) {
+            this.value = value;
+        }
+
+        Sec() { }
+    }
+
+    static class Extra {
+        @Option
+        String extra = "extra";
+    }
+
+    static class TestProfile {
+        @Option
+        String value = "s1";
+
+        @Option(name = "value")
+        PropertyAccess<String> access;
+
+        @Section(name = "s1")
+        Sec s1 = new Sec("s1");
+
+        @Option
+        int between = 5;
+
+        @Section(name = "s2")
+        Sec s2 = new Sec("s2");
+
+        @Section(name = "s3")
+        Sec s3 = new Sec("s3");
+
+        @Options
+        Extra extra1 = new Extra();
+
+        @Options
+        Extra extra2 = new Extra();
+    }
+
+}
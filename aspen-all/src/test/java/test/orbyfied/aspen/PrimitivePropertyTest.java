@@ -0,0 +1,131 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.Accessor;
+import net.orbyfied.aspen.IntAccess;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.annotation.MinMax;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.exception.PropertyLoadException;
+import net.orbyfied.aspen.properties.DoubleProperty;
+import net.orbyfied.aspen.properties.IntProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.file.Files;
+
+public class PrimitivePropertyTest {
+
+    @Test
+    void testPrimitiveFields() {
+        TestProfile1 o = new TestProfile1();
+        OptionProfile p = Tests.compose(o);
+
+        // bound to primitive accessors
+        IntProperty property = (IntProperty) p.schema().getProperty("a");
+        Assertions.assertInstanceOf(Accessor.OfInt.class, property.getAccessor());
+
+        /* 1: round trip */
+        o.a = 5;
+        o.b = (1L << 40) + 1;
+        o.c = 0.25;
+        o.d = true;
+        p.save();
+        o.a = 0;
+        o.b = 0;
+        o.c = 0;
+        o.d = false;
+        p.load();
+        Assertions.assertEquals(5, o.a);
+        Assertions.assertEquals((1L << 40) + 1, o.b);
+        Assertions.assertEquals(0.25, ((DoubleProperty) p.schema().getProperty("c")).getDouble());
+        Assertions.assertTrue(o.d);
+
+        /* 2: primitive access */
+        Assertions.assertEquals(5, o.access.getInt());
+        o.access.setInt(7);
+        Assertions.assertEquals(7, o.a);
+
+        /* 3: constraints */
+        o.e = 20;
+        p.save();
+        Assertions.assertThrows(PropertyLoadException.class, p::load);
+    }
+
+    @Test
+    void testNoNarrowing() throws Exception {
+        TestProfile2 o = new TestProfile2();
+        OptionProfile p = Tests.compose(o);
+        Files.createDirectories(p.file().getParent());
+
+        /* 1: exact values load */
+        Files.writeString(p.file(), "a: 7\nb: 3000000000\nc: 8\n");
+        p.load();
+        Assertions.assertEquals(7, o.a);
+        Assertions.assertEquals(3000000000L, o.b);
+        Assertions.assertEquals(8, o.c);
+
+        /* 2: out of range and fractional values fail */
+        for (String content : new String[] {
+                "a: 3000000000\n",
+                "b: 1.9\n",
+                "c: 3000000000\n",
+                "c: 1.5\n"
+        }) {
+            Files.writeString(p.file(), content);
+            Assertions.assertThrows(PropertyLoadException.class, p::load);
+        }
+
+        Assertions.assertEquals(7, o.a);
+        Assertions.assertEquals(3000000000L, o.b);
+        Assertions.assertEquals(8, o.c);
+    }
+
+    @Test
+    void testAccessTypeMismatch() {
+        Throwable t = Assertions.assertThrows(Throwable.class, () -> Tests.compose(new TestProfile3()));
+        while (!(t instanceof IllegalStateException) && t.getCause() != null)
+            t = t.getCause();
+        Assertions.assertInstanceOf(IllegalStateException.class, t);
+        Assertions.assertTrue(t.getMessage().contains("does not resolve to IntAccess"));
+    }
+
+    static class TestProfile3 {
+        @Option
+        double a = 1;
+
+        IntAccess access = IntAccess.find("a");
+    }
+
+    static class TestProfile2 {
+        @Option
+        int a = 1;
+
+        @Option
+        long b = 2;
+
+        @Option
+        Integer c = 3;
+    }
+
+    static class TestProfile1 {
+        @Option
+        int a = 1;
+
+        @Option
+        long b = 2;
+
+        @Option
+        double c = 3;
+
+        @Option
+        boolean d = false;
+
+        @Option
+        @MinMax(min = 0, max = 10)
+        int e = 0;
+
+        IntAccess access = IntAccess.find("a");
+    }
+
+}
@@ -0,0 +1,68 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.Property;
+import net.orbyfied.aspen.PropertyPath;
+import net.orbyfied.aspen.Schema;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.annotation.Section;
+import net.orbyfied.aspen.properties.SimpleProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+public class PropertyPathTest {
+
+    @Test
+    void testPaths() {
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(o);
+        Schema root = p.schema();
+        Schema outer = root.findSection("outer");
+
+        /* 1: string paths */
+        Property c = root.findProperty("outer/inner/c");
+        Assertions.assertNotNull(c);
+        Assertions.assertEquals("c", c.getName());
+        Assertions.assertSame(c, root.findProperty("/outer/inner/c"));
+        Assertions.assertSame(c, outer.findProperty("inner/c"));
+        Assertions.assertSame(c, outer.findProperty("/outer/inner/c"));
+        Assertions.assertSame(outer.findSection("inner"), root.findSection("outer/inner"));
+        Assertions.assertNull(root.findProperty("outer"));
+        Assertions.assertNull(root.findProperty("outer/missing"));
+
+        /* 2: compiled paths */
+        PropertyPath path = PropertyPath.compile("/outer/inner/c");
+        Assertions.assertSame(c, path.resolve(root));
+        Assertions.assertSame(c, root.findProperty(path));
+        Assertions.assertSame(c, path.resolve(outer));
+
+        /* 3: properties added later are found */
+        PropertyPath virtual = PropertyPath.compile("outer/virtual/v");
+        Assertions.assertNull(virtual.resolve(root));
+        outer.virtualSection("virtual").withProperty(SimpleProperty.builder("v", String.class).build());
+        Property v = virtual.resolve(root);
+        Assertions.assertNotNull(v);
+        Assertions.assertSame(v, root.findProperty("/outer/virtual/v"));
+        Assertions.assertSame(c, path.resolve(root));
+    }
+
+    static class TestProfile {
+        static class Outer {
+            static class Inner {
+                @Option
+                int c = 1;
+            }
+
+            @Section(name = "inner")
+            Inner inner = new Inner();
+        }
+
+        @Option
+        int a = 1;
+
+        @Section(name = "outer")
+        Outer outer = new Outer();
+    }
+
+}
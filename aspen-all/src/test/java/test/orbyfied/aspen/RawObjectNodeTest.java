@@ -0,0 +1,77 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.raw.nodes.RawNode;
+import net.orbyfied.aspen.raw.nodes.RawObjectNode;
+import net.orbyfied.aspen.raw.nodes.RawPairNode;
+import net.orbyfied.aspen.raw.nodes.RawScalarNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class RawObjectNodeTest {
+
+    @Test
+    void testIndex() {
+        RawObjectNode node = new RawObjectNode();
+
+        /* 1: insert and look up */
+        for (int i = 0; i < 1000; i++)
+            node.putEntry("key" + i, new RawScalarNode<>(i));
+        Assertions.assertEquals(1000, node.getSize());
+        for (int i = 0; i < 1000; i++)
+            Assertions.assertEquals(i, ((RawScalarNode<?>) node.get("key" + i)).getValue());
+        Assertions.assertNull(node.get("absent"));
+
+        /* 2: replace in place */
+        node.putEntry("key5", new RawScalarNode<>(-5));
+        Assertions.assertEquals(1000, node.getSize());
+        Assertions.assertEquals(-5, ((RawScalarNode<?>) node.get("key5")).getValue());
+
+        /* 3: remove keeps the rest reachable */
+        for (int i = 0; i < 1000; i += 2)
+            Assertions.assertNotNull(node.remove("key" + i));
+        Assertions.assertEquals(500, node.getSize());
+        for (int i = 0; i < 1000; i++)
+            Assertions.assertEquals(i % 2 == 1, node.containsKey("key" + i));
+        Assertions.assertEquals("key1", node.toMap().keySet().iterator().next());
+
+        /* 4: direct list modification */
+        node.getNodes().add(new RawPairNode(new RawScalarNode<>("direct"), new RawScalarNode<>(1)));
+        Assertions.assertNotNull(node.get("direct"));
+
+        // same size modifications
+        int last = node.getNodes().size() - 1;
+        node.getNodes().set(last, new RawPairNode(new RawScalarNode<>("replaced"), new RawScalarNode<>(2)));
+        Assertions.assertNull(node.get("direct"));
+        Assertions.assertNotNull(node.get("replaced"));
+        node.getNodes().remove(last);
+        node.getNodes().add(new RawPairNode(new RawScalarNode<>("readded"), new RawScalarNode<>(3)));
+        Assertions.assertNull(node.get("replaced"));
+        Assertions.assertNotNull(node.get("readded"));
+    }
+
+    @Test
+    void testValueCache() {
+        RawObjectNode node = new RawObjectNode();
+        node.putEntry("a", new RawScalarNode<>(1));
+
+        Map<String, Object> value = node.toValue();
+        Assertions.assertSame(value, node.toValue());
+        Assertions.assertEquals(Map.of("a", 1), value);
+
+        node.putEntry("b", new RawScalarNode<>(2));
+        Assertions.assertEquals(Map.of("a", 1, "b", 2), node.toValue());
+
+        // duplicate keys resolve to the last pair
+        RawObjectNode dup = new RawObjectNode(new ArrayList<>(List.<RawNode>of(
+                new RawPairNode(new RawScalarNode<>("x"), new RawScalarNode<>(1)),
+                new RawPairNode(new RawScalarNode<>("x"), new RawScalarNode<>(2))
+        )));
+        Assertions.assertEquals(2, ((RawScalarNode<?>) dup.get("x")).getValue());
+        Assertions.assertEquals(1, dup.toMap().size());
+    }
+
+}
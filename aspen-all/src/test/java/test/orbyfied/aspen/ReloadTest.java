@@ -0,0 +1,84 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.ReloadManager;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.annotation.Section;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ReloadTest {
+
+    @Test
+    void testReload() throws Exception {
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(o);
+        Files.createDirectories(p.file().getParent());
+        Files.writeString(p.file(), """
+                a: 1
+                b: "one"
+                sec:
+                  c: 0.5
+                """);
+
+        ReloadManager manager = p.provider().reloadManager();
+        try {
+            CountDownLatch reloaded = new CountDownLatch(1);
+            manager.onReload(profile -> reloaded.countDown());
+
+            /* 1: baseline loads everything */
+            manager.watch(p);
+            Assertions.assertEquals(1, o.a);
+            Assertions.assertEquals("one", o.b);
+            Assertions.assertEquals(0.5, o.sec.c);
+
+            /* 2: only changed keys are loaded */
+            o.b = "in memory";
+            Files.writeString(p.file(), """
+                    a: 1
+                    b: "one"
+                    sec:
+                      c: 2.5
+                    """);
+            Assertions.assertEquals(1, manager.reload(p));
+            Assertions.assertEquals(2.5, o.sec.c);
+            Assertions.assertEquals("in memory", o.b);
+            Assertions.assertEquals(0, manager.reload(p));
+
+            /* 3: file changes are picked up by the watcher */
+            Files.writeString(p.file(), """
+                    a: 7
+                    b: "one"
+                    sec:
+                      c: 2.5
+                    """);
+            Assertions.assertTrue(reloaded.await(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(7, o.a);
+            Assertions.assertEquals("in memory", o.b);
+        } finally {
+            manager.close();
+        }
+    }
+
+    static class TestProfile {
+        static class Sec {
+            @Option
+            double c = 1;
+        }
+
+        @Option
+        int a = 0;
+
+        @Option
+        String b = "b";
+
+        @Section(name = "sec")
+        Sec sec = new Sec();
+    }
+
+}
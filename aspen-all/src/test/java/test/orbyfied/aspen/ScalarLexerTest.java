@@ -0,0 +1,65 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.raw.format.ScalarLexer;
+import net.orbyfied.aspen.raw.nodes.RawDoubleNode;
+import net.orbyfied.aspen.raw.nodes.RawLongNode;
+import net.orbyfied.aspen.raw.nodes.RawScalarNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class ScalarLexerTest {
+
+    static double lexDouble(String str) {
+        RawScalarNode<?> node = ScalarLexer.lexNumber(str);
+        Assertions.assertInstanceOf(RawDoubleNode.class, node, str);
+        return ((RawDoubleNode) node).getDouble();
+    }
+
+    @Test
+    void testLex() {
+        /* 1: exact longs */
+        long big = (1L << 53) + 1;
+        Assertions.assertEquals(big, ((RawLongNode) ScalarLexer.lexNumber(Long.toString(big))).getLong());
+        Assertions.assertEquals(Long.MAX_VALUE, ((RawLongNode) ScalarLexer.lexNumber("9223372036854775807")).getLong());
+        Assertions.assertEquals(Long.MIN_VALUE, ((RawLongNode) ScalarLexer.lexNumber("-9223372036854775808")).getLong());
+        Assertions.assertEquals(9223372036854775808d, lexDouble("9223372036854775808"));
+
+        /* 2: doubles */
+        Assertions.assertEquals(0.1, lexDouble("0.1"));
+        Assertions.assertEquals(-2.5e-7, lexDouble("-2.5e-7"));
+        Assertions.assertEquals(0.5, lexDouble(".5"));
+        Assertions.assertEquals(1e300, lexDouble("1E300"));
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, lexDouble("-Infinity"));
+
+        /* 3: not numbers */
+        for (String str : new String[] { "", "-", ".", "1e", "e5", "1.2.3", "12abc", "0x10", "NaNa", "1_000", " 1" })
+            Assertions.assertNull(ScalarLexer.lexNumber(str), str);
+    }
+
+    @Test
+    void testFormatRoundTrip() {
+        Assertions.assertEquals("0.1", ScalarLexer.formatDouble(0.1));
+        Assertions.assertEquals("3.0", ScalarLexer.formatDouble(3));
+        Assertions.assertEquals("-0.001", ScalarLexer.formatDouble(-0.001));
+        Assertions.assertEquals("1.0E10", ScalarLexer.formatDouble(1e10));
+        Assertions.assertEquals("1.0E-5", ScalarLexer.formatDouble(1e-5));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            double d = switch (i % 3) {
+                case 0 -> Double.longBitsToDouble(random.nextLong());
+                case 1 -> random.nextDouble() * 1000;
+                default -> Math.round(random.nextDouble() * 1e6) / 100.0;
+            };
+
+            if (Double.isNaN(d))
+                continue;
+            String str = ScalarLexer.formatDouble(d);
+            Assertions.assertEquals(d, lexDouble(str), str);
+            Assertions.assertTrue(str.length() <= Double.toString(d).length(), str + " vs " + d);
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.raw.format.JLSSFormat;
+import net.orbyfied.aspen.raw.format.ScalarStyle;
+import net.orbyfied.aspen.raw.format.StringScalarRepresentation;
+import net.orbyfied.aspen.raw.nodes.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ScalarNodeTest {
+
+    static RawValueNode<?> load(JLSSFormat format, String str) {
+        return format.load(new StringScalarRepresentation(str, ScalarStyle.PLAIN));
+    }
+
+    @Test
+    void testSpecializedNodes() {
+        JLSSFormat format = new JLSSFormat();
+
+        /* 1: load into specialized nodes */
+        RawLongNode longNode = (RawLongNode) load(format, "42");
+        Assertions.assertEquals(42, longNode.getLong());
+        RawDoubleNode doubleNode = (RawDoubleNode) load(format, "0.25");
+        Assertions.assertEquals(0.25, doubleNode.getDouble());
+        RawBooleanNode booleanNode = (RawBooleanNode) load(format, "true");
+        Assertions.assertTrue(booleanNode.getBoolean());
+        RawStringNode stringNode = (RawStringNode) load(format, "hello");
+        Assertions.assertEquals("hello", stringNode.getString());
+        Assertions.assertTrue(((RawScalarNode<?>) load(format, "null")).isNull());
+
+        /* 2: generic access */
+        Assertions.assertEquals(42L, longNode.getValue());
+        Assertions.assertEquals(42.0, longNode.doubleValue());
+        Assertions.assertTrue(doubleNode.isNumber());
+        Assertions.assertFalse(stringNode.isNumber());
+
+        /* 3: dump */
+        Assertions.assertEquals("42", format.dump(longNode).string());
+        Assertions.assertEquals("0.25", format.dump(doubleNode).string());
+        Assertions.assertEquals("true", format.dump(booleanNode).string());
+        Assertions.assertEquals(Long.toString(Long.MAX_VALUE), format.dump(RawScalarNode.of(Long.MAX_VALUE)).string());
+        Assertions.assertInstanceOf(RawLongNode.class, RawScalarNode.ofValue(7));
+
+        /* 4: null values */
+        Assertions.assertThrows(IllegalArgumentException.class, () -> longNode.setValue(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> doubleNode.setValue(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> booleanNode.setValue(null));
+        Assertions.assertTrue(RawScalarNode.ofValue(null).isNull());
+    }
+
+}
@@ -0,0 +1,87 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.SchemaBinder;
+import net.orbyfied.aspen.annotation.MinMax;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.annotation.Section;
+import net.orbyfied.aspen.exception.PropertyLoadException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+public class SchemaBinderTest {
+
+    @Test
+    void testGeneratedBinder() {
+        ConfigurationProvider provider = Tests.configurationProvider().fork();
+
+        // the binder is picked up automatically
+        Assertions.assertNotNull(provider.getSchemaTemplate(TestProfile1.class).binder());
+        Assertions.assertNull(provider.getSchemaTemplate(PrivateProfile.class).binder());
+        Assertions.assertNull(provider.fork().useSchemaBinders(false)
+                .getSchemaTemplate(TestProfile1.class).binder());
+
+        TestProfile1 instance = new TestProfile1();
+        OptionProfile profile = provider.composeProfile("binder", instance, Tests.file("binder.yml"));
+        Assertions.assertNotNull(instance.sec);
+
+        instance.a = 5;
+        instance.sec.b = "bound";
+        profile.save();
+        instance.a = 0;
+        instance.sec.b = null;
+        profile.load();
+        Assertions.assertEquals(5, instance.a);
+        Assertions.assertEquals("bound", instance.sec.b);
+
+        // the synthetic annotations are visible to composers
+        instance.a = 20;
+        profile.save();
+        Assertions.assertThrows(PropertyLoadException.class, profile::load);
+    }
+
+    @Test
+    void testGeneratedAnnotations() throws Exception {
+        ConfigurationProvider provider = Tests.configurationProvider().fork();
+        SchemaBinder.Entry entry = null;
+        for (SchemaBinder.Entry e : provider.getSchemaTemplate(TestProfile1.class).binder().entries())
+            if (e.fieldName().equals("a"))
+                entry = e;
+        Assertions.assertNotNull(entry);
+
+        // generated annotations match the reflective ones
+        MinMax generated = entry.element().getAnnotation(MinMax.class);
+        MinMax reflective = TestProfile1.class.getDeclaredField("a").getAnnotation(MinMax.class);
+        Assertions.assertNotSame(reflective, generated);
+        Assertions.assertEquals(reflective, generated);
+        Assertions.assertEquals(generated, reflective);
+        Assertions.assertEquals(reflective.hashCode(), generated.hashCode());
+        Assertions.assertTrue(generated.toString().startsWith("@" + MinMax.class.getName() + "("));
+
+        Option option = entry.element().getAnnotation(Option.class);
+        Assertions.assertEquals(TestProfile1.class.getDeclaredField("a").getAnnotation(Option.class), option);
+        Assertions.assertNotEquals(generated, option);
+    }
+
+    static class TestProfile1 {
+        static class Sec {
+            @Option
+            String b = "b";
+        }
+
+        @Option
+        @MinMax(min = 0, max = 10)
+        Integer a = 0;
+
+        @Section(name = "sec")
+        Sec sec;
+    }
+
+    static class PrivateProfile {
+        @Option
+        private Integer a = 0;
+    }
+
+}
@@ -0,0 +1,65 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionComposer;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.annotation.Section;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+public class SchemaTemplateTest {
+
+    @Test
+    void testTemplateReuse() {
+        ConfigurationProvider provider = Tests.configurationProvider().fork();
+        TestProfile1 i1 = new TestProfile1();
+        TestProfile1 i2 = new TestProfile1();
+        OptionProfile p1 = provider.composeProfile("template-1", i1, Tests.file("template-1.yml"));
+        OptionProfile p2 = provider.composeProfile("template-2", i2, Tests.file("template-2.yml"));
+
+        // the template is cached per class
+        Assertions.assertSame(provider.getSchemaTemplate(TestProfile1.class),
+                provider.getSchemaTemplate(TestProfile1.class));
+
+        // but the stamped properties are bound to their own instance
+        Assertions.assertNotSame(p1.schema().getProperty("a"), p2.schema().getProperty("a"));
+        i1.a = 1;
+        i2.a = 2;
+        i1.sec.b = "one";
+        i2.sec.b = "two";
+        Assertions.assertEquals(1, p1.schema().getProperty("a").get());
+        Assertions.assertEquals(2, p2.schema().getProperty("a").get());
+        Assertions.assertEquals("one", p1.schema().findProperty("sec/b").get());
+        Assertions.assertEquals("two", p2.schema().findProperty("sec/b").get());
+
+        p1.save();
+        i1.a = 5;
+        p1.load();
+        Assertions.assertEquals(1, i1.a);
+    }
+
+    @Test
+    void testInvalidation() {
+        ConfigurationProvider provider = Tests.configurationProvider().fork();
+        Object template = provider.getSchemaTemplate(TestProfile1.class);
+
+        provider.withOptionComposer(OptionComposer.configureAllAnnotated(Option.class, (context, option) -> { }));
+        Assertions.assertNotSame(template, provider.getSchemaTemplate(TestProfile1.class));
+    }
+
+    static class TestProfile1 {
+        static class Sec {
+            @Option
+            String b = "b";
+        }
+
+        @Option
+        Integer a = 0;
+
+        @Section(name = "sec")
+        Sec sec;
+    }
+
+}
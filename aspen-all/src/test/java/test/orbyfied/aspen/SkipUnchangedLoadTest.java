@@ -0,0 +1,53 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.annotation.Option;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.file.Files;
+
+public class SkipUnchangedLoadTest {
+
+    @Test
+    void testSkipUnchangedLoads() throws Exception {
+        ConfigurationProvider provider = Tests.configurationProvider().fork()
+                .skipUnchangedLoads(true);
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(provider, o);
+        Files.createDirectories(p.file().getParent());
+        Files.writeString(p.file(), "value: 3\n");
+
+        /* 1: unchanged files are not loaded again */
+        p.load();
+        Assertions.assertEquals(3, o.value);
+        o.value = 10;
+        p.load();
+        Assertions.assertEquals(10, o.value);
+        Assertions.assertEquals(1, p.skippedLoads());
+
+        /* 2: forced loads always load */
+        p.load(true);
+        Assertions.assertEquals(3, o.value);
+
+        /* 3: changed content is loaded, even with the same size */
+        Files.writeString(p.file(), "value: 4\n");
+        p.load();
+        Assertions.assertEquals(4, o.value);
+
+        /* 4: setting a value through the property drops the fingerprint */
+        p.schema().getProperty("value").set(20);
+        p.load();
+        Assertions.assertEquals(4, o.value);
+        Assertions.assertEquals(1, p.skippedLoads());
+        Assertions.assertEquals(1, provider.skippedLoads());
+    }
+
+    static class TestProfile {
+        @Option
+        int value;
+    }
+
+}
@@ -0,0 +1,86 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.annotation.Section;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.file.Files;
+
+public class StreamingLoadTest {
+
+    static final String DOCUMENT = """
+            a: 5
+            unknown:
+              x: [1, 2, { y: 3 }]
+              z: hello
+            b: "text"
+            sec:
+              c: 0.5
+              other: 1
+            d: 7
+            """;
+
+    static final String ALIASED = """
+            a: &num 9
+            b: "text"
+            sec:
+              c: 0.5
+            d: *num
+            """;
+
+    @Test
+    void testStreamingLoad() throws Exception {
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(o);
+        Files.createDirectories(p.file().getParent());
+
+        /* 1: unknown keys are skipped */
+        Files.writeString(p.file(), DOCUMENT);
+        p.load();
+        Assertions.assertEquals(5, o.a);
+        Assertions.assertEquals("text", o.b);
+        Assertions.assertEquals(0.5, o.sec.c);
+        Assertions.assertEquals(7L, o.d);
+
+        /* 2: aliases fall back to the tree */
+        Files.writeString(p.file(), ALIASED);
+        p.load();
+        Assertions.assertEquals(9, o.a);
+        Assertions.assertEquals(9L, o.d);
+
+        /* 3: same result as the tree */
+        ConfigurationProvider treeProvider = Tests.configurationProvider().fork()
+                .streamingLoad(false);
+        TestProfile o2 = new TestProfile();
+        OptionProfile p2 = Tests.compose(treeProvider, o2);
+        Files.writeString(p2.file(), DOCUMENT);
+        p2.load();
+        Assertions.assertEquals(o.b, o2.b);
+        Assertions.assertEquals(o.sec.c, o2.sec.c);
+        Assertions.assertEquals(5, o2.a);
+    }
+
+    static class TestProfile {
+        static class Sec {
+            @Option
+            double c = 1;
+        }
+
+        @Option
+        int a = 1;
+
+        @Option
+        String b = "b";
+
+        @Section(name = "sec")
+        Sec sec = new Sec();
+
+        @Option
+        long d = 2;
+    }
+
+}
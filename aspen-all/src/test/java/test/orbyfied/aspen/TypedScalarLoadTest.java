@@ -0,0 +1,78 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.raw.format.JLSSFormat;
+import net.orbyfied.aspen.raw.format.ScalarStyle;
+import net.orbyfied.aspen.raw.format.StringScalarRepresentation;
+import net.orbyfied.aspen.raw.nodes.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.file.Files;
+
+public class TypedScalarLoadTest {
+
+    static final String DOCUMENT = """
+            name: 1234
+            flag: true
+            ratio: 3
+            count: 12
+            small: 0.25
+            """;
+
+    @Test
+    void testFormat() {
+        JLSSFormat format = new JLSSFormat();
+
+        Assertions.assertInstanceOf(RawStringNode.class, format.load(plain("1234"), String.class));
+        Assertions.assertInstanceOf(RawStringNode.class, format.load(plain("true"), String.class));
+        Assertions.assertInstanceOf(RawDoubleNode.class, format.load(plain("3"), Double.class));
+        Assertions.assertEquals(12, ((RawScalarNode<?>) format.load(plain("12"), Integer.class)).getValue());
+        Assertions.assertEquals(0.25f, ((RawScalarNode<?>) format.load(plain("0.25"), Float.class)).getValue());
+        Assertions.assertTrue(((RawScalarNode<?>) format.load(plain("null"), String.class)).isNull());
+        Assertions.assertInstanceOf(RawUndefinedNode.class, format.load(plain(""), Long.class));
+
+        // mismatches fall back to guessing
+        Assertions.assertInstanceOf(RawStringNode.class, format.load(plain("abc"), Long.class));
+        Assertions.assertInstanceOf(RawLongNode.class, format.load(plain("5"), Boolean.class));
+    }
+
+    @Test
+    void testProfileLoad() throws Exception {
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(o);
+        Files.createDirectories(p.file().getParent());
+        Files.writeString(p.file(), DOCUMENT);
+        p.load();
+
+        Assertions.assertEquals("1234", o.name);
+        Assertions.assertEquals(true, o.flag);
+        Assertions.assertEquals(3.0, o.ratio);
+        Assertions.assertEquals(12, o.count);
+        Assertions.assertEquals(0.25f, o.small);
+    }
+
+    static StringScalarRepresentation plain(String str) {
+        return new StringScalarRepresentation(str, ScalarStyle.PLAIN);
+    }
+
+    static class TestProfile {
+        @Option
+        String name = "";
+
+        @Option
+        Boolean flag = false;
+
+        @Option
+        Double ratio = 0.0;
+
+        @Option
+        Integer count = 0;
+
+        @Option
+        Float small = 0f;
+    }
+
+}
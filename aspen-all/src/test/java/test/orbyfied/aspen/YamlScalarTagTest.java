@@ -0,0 +1,64 @@
+package test.orbyfied.aspen;
+
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.annotation.Option;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import testsrc.Tests;
+
+import java.nio.file.Files;
+
+public class YamlScalarTagTest {
+
+    @Test
+    void testPlainScalarTags() throws Exception {
+        TestProfile o = new TestProfile();
+        OptionProfile p = Tests.compose(o);
+
+        /* 1: plain scalars are written untagged */
+        o.a = 5;
+        o.b = 0.5;
+        o.c = true;
+        o.d = "hello";
+        o.e = "123";
+        p.save();
+        String content = Files.readString(p.file());
+        Assertions.assertTrue(content.contains("a: 5"));
+        Assertions.assertTrue(content.contains("b: 0.5"));
+        Assertions.assertTrue(content.contains("c: true"));
+        Assertions.assertTrue(content.contains("d: 'hello'"));
+        Assertions.assertTrue(content.contains("e: '123'"));
+        Assertions.assertFalse(content.contains("!!str"));
+
+        /* 2: round trip */
+        o.a = 0;
+        o.b = 0;
+        o.c = false;
+        o.d = null;
+        o.e = null;
+        p.load();
+        Assertions.assertEquals(5, o.a);
+        Assertions.assertEquals(0.5, o.b);
+        Assertions.assertTrue(o.c);
+        Assertions.assertEquals("hello", o.d);
+        Assertions.assertEquals("123", o.e);
+    }
+
+    static class TestProfile {
+        @Option
+        int a;
+
+        @Option
+        double b;
+
+        @Option
+        boolean c;
+
+        @Option
+        String d;
+
+        @Option
+        String e;
+    }
+
+}
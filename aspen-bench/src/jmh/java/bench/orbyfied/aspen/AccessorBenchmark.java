@@ -0,0 +1,78 @@
+package bench.orbyfied.aspen;
+
+import net.orbyfied.aspen.Accessor;
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.MemoryOrder;
+import net.orbyfied.aspen.OptionSchema;
+import net.orbyfied.aspen.annotation.Option;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the get and set throughput of field
+ * accessors for every memory order, both on a single
+ * thread and with readers contending with a writer.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+
+    @Param({ "PLAIN", "OPAQUE", "ACQUIRE_RELEASE", "VOLATILE" })
+    MemoryOrder order;
+
+    // the accessor for Fixture.value
+    Accessor<Integer> accessor;
+
+    // the value written by the writer
+    int counter;
+
+    @Setup
+    public void setup() throws Exception {
+        ConfigurationProvider provider = new ConfigurationProvider();
+        OptionSchema schema = new OptionSchema(provider, new Fixture());
+        schema.memoryOrder(order);
+        accessor = Accessor.forField(schema, Fixture.class.getDeclaredField("value"));
+    }
+
+    /* Uncontended */
+
+    @Benchmark
+    @Group("uncontendedGet")
+    public Integer uncontendedGet() {
+        return accessor.get(null);
+    }
+
+    @Benchmark
+    @Group("uncontendedSet")
+    public void uncontendedSet() {
+        accessor.register(null, counter++ & 0xFF);
+    }
+
+    /* Contended */
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public Integer contendedGet() {
+        return accessor.get(null);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedSet() {
+        accessor.register(null, counter++ & 0xFF);
+    }
+
+    /* Fixture */
+
+    public static class Fixture {
+        @Option Integer value = 0;
+    }
+
+}
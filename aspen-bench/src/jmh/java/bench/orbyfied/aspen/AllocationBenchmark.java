@@ -0,0 +1,89 @@
+package bench.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.Property;
+import net.orbyfied.aspen.PropertyAccess;
+import net.orbyfied.aspen.context.IOContext;
+import net.orbyfied.aspen.raw.YamlRawProvider;
+import net.orbyfied.aspen.raw.nodes.RawObjectNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmarks checked against the allocation budgets
+ * in {@code allocation-budgets.properties}, in bytes per
+ * operation as measured by the JMH GC profiler.
+ *
+ * Checked by {@code ./gradlew :aspen-bench:check}, which
+ * fails the build when a benchmark exceeds its budget.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllocationBenchmark {
+
+    // the profile, of size small
+    OptionProfile profile;
+    Path file;
+
+    // the provider
+    ConfigurationProvider provider;
+
+    // the tree of the generated document
+    RawObjectNode tree;
+
+    // a string property and an access for it
+    Property<Object, ?> property;
+    PropertyAccess<Object> access;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() throws Exception {
+        provider = new ConfigurationProvider()
+                .rawProvider(YamlRawProvider.builder().build());
+        file = Files.createTempFile("aspen-alloc", ".yml");
+        profile = Fixtures.profile(provider, Fixtures.Size.SMALL, file);
+
+        IOContext ioContext = provider.newReadContext(profile, file.getFileName().toString());
+        tree = (RawObjectNode) provider.rawProvider().compose(ioContext,
+                new StringReader(Fixtures.document(Fixtures.Size.SMALL)));
+
+        property = profile.schema().getProperty("nickname");
+        access = PropertyAccess.constant(property, provider, profile.schema());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Object propertyGet() {
+        return property.get();
+    }
+
+    @Benchmark
+    public Object accessGet() {
+        return access.get();
+    }
+
+    @Benchmark
+    public OptionProfile schemaLoad() {
+        profile.schema().load(provider.newLoadContext(profile), tree);
+        return profile;
+    }
+
+    @Benchmark
+    public RawObjectNode schemaEmit() {
+        return profile.schema().emit(provider.newEmitContext(profile));
+    }
+
+}
@@ -0,0 +1,88 @@
+package bench.orbyfied.aspen;
+
+import net.orbyfied.aspen.BatchResult;
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.raw.YamlRawProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares saving and loading many profiles one
+ * after another against the batch operations of
+ * the configuration provider.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchSaveBenchmark {
+
+    // the amount of profiles
+    @Param({ "200" })
+    int profileCount;
+
+    // the batch concurrency
+    @Param({ "16" })
+    int concurrency;
+
+    // the directory of the profile files
+    Path dir;
+
+    // the provider
+    ConfigurationProvider provider;
+
+    // the profiles
+    List<OptionProfile> profiles = new ArrayList<>();
+
+    @Setup
+    public void setup() throws Exception {
+        dir = Files.createTempDirectory("aspen-batch");
+        provider = new ConfigurationProvider()
+                .rawProvider(YamlRawProvider.builder().build())
+                .batchConcurrency(concurrency);
+        for (int i = 0; i < profileCount; i++) {
+            OptionProfile profile = provider.composeProfile("bench" + i,
+                    new SchemaComposeBenchmark.PlayerConfig(), dir.resolve("bench" + i + ".yml"));
+            profile.save();
+            profiles.add(profile);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        for (OptionProfile profile : profiles)
+            Files.deleteIfExists(profile.file());
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public void saveSerial() {
+        for (OptionProfile profile : profiles)
+            profile.save();
+    }
+
+    @Benchmark
+    public BatchResult saveAll() throws Exception {
+        return provider.saveAll(profiles).get();
+    }
+
+    @Benchmark
+    public void loadSerial() {
+        for (OptionProfile profile : profiles)
+            profile.load();
+    }
+
+    @Benchmark
+    public BatchResult loadAll() throws Exception {
+        return provider.loadAll(profiles).get();
+    }
+
+}
@@ -0,0 +1,128 @@
+package bench.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.Property;
+import net.orbyfied.aspen.PropertyAccess;
+import net.orbyfied.aspen.context.IOContext;
+import net.orbyfied.aspen.raw.RawProvider;
+import net.orbyfied.aspen.raw.YamlRawProvider;
+import net.orbyfied.aspen.raw.nodes.RawNode;
+import net.orbyfied.aspen.raw.nodes.RawObjectNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the main paths of handling a configuration,
+ * from composing the profile over parsing and binding
+ * the document to emitting and writing it again, for
+ * generated configurations of different sizes.
+ *
+ * @see Fixtures
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigPipelineBenchmark {
+
+    @Param({ "SMALL", "MEDIUM", "LARGE" })
+    Fixtures.Size size;
+
+    // the provider
+    ConfigurationProvider provider;
+
+    // the raw provider
+    RawProvider<IOContext> rawProvider;
+
+    // the profile and its file
+    OptionProfile profile;
+    Path file;
+
+    // the generated document and its parsed tree
+    String document;
+    RawObjectNode tree;
+
+    // the context used for parsing and writing
+    IOContext ioContext;
+
+    // the property in the middle of the
+    // configuration and an access for it
+    String middlePath;
+    Property<Object, ?> middle;
+    PropertyAccess<Object> access;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Setup
+    public void setup() throws Exception {
+        rawProvider = (RawProvider) YamlRawProvider.builder().build();
+        provider = new ConfigurationProvider().rawProvider(rawProvider);
+        file = Files.createTempFile("aspen-pipeline", ".yml");
+        profile = Fixtures.profile(provider, size, file);
+
+        document = Fixtures.document(size);
+        ioContext = provider.newReadContext(profile, file.getFileName().toString());
+        tree = (RawObjectNode) rawProvider.compose(ioContext, new StringReader(document));
+
+        middlePath = Fixtures.middlePath(size);
+        middle = profile.schema().findProperty(middlePath);
+        access = PropertyAccess.constant(middle, provider, profile.schema());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public OptionProfile composeProfile() {
+        return Fixtures.profile(provider, size, file);
+    }
+
+    @Benchmark
+    public RawNode yamlCompose() {
+        return rawProvider.compose(ioContext, new StringReader(document));
+    }
+
+    @Benchmark
+    public StringWriter yamlWrite() {
+        StringWriter writer = new StringWriter(document.length());
+        rawProvider.write(ioContext, tree, writer);
+        return writer;
+    }
+
+    @Benchmark
+    public OptionProfile schemaLoad() {
+        profile.schema().load(provider.newLoadContext(profile), tree);
+        return profile;
+    }
+
+    @Benchmark
+    public RawObjectNode schemaEmit() {
+        return profile.schema().emit(provider.newEmitContext(profile));
+    }
+
+    @Benchmark
+    public Object accessGet() {
+        return access.get();
+    }
+
+    @Benchmark
+    public PropertyAccess<Object> accessSet() {
+        access.set(access.get());
+        return access;
+    }
+
+    @Benchmark
+    public Property findProperty() {
+        return profile.schema().findProperty(middlePath);
+    }
+
+}
@@ -0,0 +1,129 @@
+package bench.orbyfied.aspen;
+
+import net.orbyfied.aspen.Accessor;
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.Property;
+import net.orbyfied.aspen.Schema;
+import net.orbyfied.aspen.properties.IntProperty;
+import net.orbyfied.aspen.properties.SimpleProperty;
+
+import java.nio.file.Path;
+
+/**
+ * Generated configurations of different sizes for
+ * the benchmarks. Each configuration is the {@link SchemaComposeBenchmark.PlayerConfig}
+ * with a number of generated sections of alternating
+ * string and integer options appended.
+ */
+public final class Fixtures {
+
+    private Fixtures() { }
+
+    /**
+     * The size of a generated configuration.
+     */
+    public enum Size {
+
+        SMALL(4, 8),
+        MEDIUM(64, 16),
+        LARGE(1024, 32);
+
+        // the amount of generated sections
+        final int sections;
+
+        // the amount of options per section
+        final int options;
+
+        Size(int sections, int options) {
+            this.sections = sections;
+            this.options = options;
+        }
+
+        public int sections() {
+            return sections;
+        }
+
+        public int options() {
+            return options;
+        }
+
+    }
+
+    // the name of the generated section with the given index
+    public static String sectionName(int section) {
+        return "section" + section;
+    }
+
+    // the name of the generated option with the given index
+    public static String optionName(int option) {
+        return "option" + option;
+    }
+
+    // the path of the option in the middle of the configuration
+    public static String middlePath(Size size) {
+        return sectionName(size.sections / 2) + "/" + optionName(size.options / 2);
+    }
+
+    /**
+     * Composes a profile of the given size.
+     *
+     * @param provider The provider.
+     * @param size The size.
+     * @param file The file of the profile.
+     * @return The profile.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static OptionProfile profile(ConfigurationProvider provider, Size size, Path file) {
+        OptionProfile profile = provider.composeProfile("fixture-" + size.name().toLowerCase(),
+                new SchemaComposeBenchmark.PlayerConfig(), file);
+        for (int s = 0; s < size.sections; s++) {
+            Schema section = profile.schema().virtualSection(sectionName(s));
+            for (int o = 0; o < size.options; o++) {
+                Property property;
+                if ((o & 1) == 0) {
+                    property = SimpleProperty.builder(optionName(o), String.class)
+                            .accessor(Accessor.memoryLocal())
+                            .build();
+                    property.set("value " + s + "." + o);
+                } else {
+                    property = IntProperty.builder(optionName(o))
+                            .accessor(Accessor.memoryLocal())
+                            .build();
+                    property.set(s * size.options + o);
+                }
+
+                section.withProperty(property);
+            }
+        }
+
+        return profile;
+    }
+
+    /**
+     * Generates a document matching the
+     * profile of the given size.
+     *
+     * @param size The size.
+     * @return The document.
+     */
+    public static String document(Size size) {
+        StringBuilder b = new StringBuilder();
+        b.append("nickname: bench\nlocale: de_DE\nnotifications: false\nlevel: 12\nplayTime: 123456\nbalance: 99.5\n");
+        b.append("chat:\n  prefix: \"[bench]\"\n  suffix: \"\"\n  colors: false\n  maxLength: 128\n");
+        b.append("movement:\n  walkSpeed: 0.3\n  flySpeed: 0.2\n  canFly: true\n  jumpBoost: 2\n");
+        b.append("limits:\n  maxHomes: 5\n  maxWarps: 1\n  cooldownMillis: 2500\n  balanceCap: 50000.0\n");
+        for (int s = 0; s < size.sections; s++) {
+            b.append(sectionName(s)).append(":\n");
+            for (int o = 0; o < size.options; o++) {
+                b.append("  ").append(optionName(o)).append(": ");
+                if ((o & 1) == 0) b.append("\"loaded ").append(s).append('.').append(o).append('"');
+                else b.append(s * size.options + o + 1);
+                b.append('\n');
+            }
+        }
+
+        return b.toString();
+    }
+
+}
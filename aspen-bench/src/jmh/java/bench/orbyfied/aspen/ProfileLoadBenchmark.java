@@ -0,0 +1,71 @@
+package bench.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionProfile;
+import net.orbyfied.aspen.raw.YamlRawProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a profile by streaming the
+ * parser events into the schema against composing
+ * the node trees first, for a file where most of
+ * the content is unknown to the schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileLoadBenchmark {
+
+    @Param({ "true", "false" })
+    boolean streaming;
+
+    // the amount of unknown entries in the file
+    @Param({ "10000" })
+    int unknownEntries;
+
+    // the file loaded
+    Path file;
+
+    // the profile to load
+    OptionProfile profile;
+
+    @Setup
+    public void setup() throws Exception {
+        file = Files.createTempFile("aspen-load", ".yml");
+        ConfigurationProvider provider = new ConfigurationProvider()
+                .rawProvider(YamlRawProvider.builder().build())
+                .streamingLoad(streaming);
+        profile = provider.composeProfile("bench", new SchemaComposeBenchmark.PlayerConfig(), file);
+        profile.save();
+
+        // append the unknown entries
+        StringBuilder b = new StringBuilder(Files.readString(file));
+        b.append("history:\n");
+        for (int i = 0; i < unknownEntries; i++) {
+            b.append("  entry").append(i).append(":\n");
+            b.append("    time: ").append(i * 1000L).append('\n');
+            b.append("    message: \"message number ").append(i).append("\"\n");
+            b.append("    tags: [a, b, c]\n");
+        }
+
+        Files.writeString(file, b);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public OptionProfile load() {
+        return profile.load();
+    }
+
+}
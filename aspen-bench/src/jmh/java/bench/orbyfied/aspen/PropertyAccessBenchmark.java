@@ -0,0 +1,106 @@
+package bench.orbyfied.aspen;
+
+import net.orbyfied.aspen.Accessor;
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.IntAccess;
+import net.orbyfied.aspen.OptionSchema;
+import net.orbyfied.aspen.Property;
+import net.orbyfied.aspen.PropertyAccess;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.context.PropertyContext;
+import net.orbyfied.aspen.properties.IntProperty;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading an option through a property
+ * and a property access against a raw field read and
+ * the previous decorator chain of accessors, for both
+ * boxed and primitive options.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyAccessBenchmark {
+
+    // the config instance
+    Fixture fixture;
+
+    // the property for Fixture.value
+    Property<Integer, ?> property;
+
+    // the access for the property
+    PropertyAccess<Integer> access;
+
+    // the property and access for Fixture.primitive
+    IntProperty intProperty;
+    IntAccess intAccess;
+
+    // the decorator chain built by
+    // properties before compiling
+    Accessor<Integer> chain;
+    PropertyContext context;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() throws Exception {
+        ConfigurationProvider provider = new ConfigurationProvider();
+        fixture = new Fixture();
+        OptionSchema schema = new OptionSchema(provider, fixture).compose(provider);
+        property = (Property<Integer, ?>) schema.getProperty("value");
+        access = PropertyAccess.constant(property, provider, schema);
+        intProperty = (IntProperty) schema.getProperty("primitive");
+        intAccess = (IntAccess) PropertyAccess.constant(intProperty, provider, schema);
+
+        Accessor<Integer> accessor = property.getAccessor();
+        chain = Accessor.defaulted(Accessor.dynamic(() -> accessor), () -> 0);
+        context = new PropertyContext(provider, null, schema);
+    }
+
+    @Benchmark
+    public Integer rawField() {
+        return fixture.value;
+    }
+
+    @Benchmark
+    public Integer propertyGet() {
+        return property.get();
+    }
+
+    @Benchmark
+    public Integer propertyAccessGet() {
+        return access.get();
+    }
+
+    @Benchmark
+    public int rawPrimitiveField() {
+        return fixture.primitive;
+    }
+
+    @Benchmark
+    public int intPropertyGet() {
+        return intProperty.getInt();
+    }
+
+    @Benchmark
+    public int intAccessGet() {
+        return intAccess.getInt();
+    }
+
+    @Benchmark
+    public Integer decoratorChainGet() {
+        return chain.get(context.property(property));
+    }
+
+    /* Fixture */
+
+    public static class Fixture {
+        @Option Integer value = 42;
+        @Option int primitive = 1337;
+    }
+
+}
@@ -0,0 +1,102 @@
+package bench.orbyfied.aspen;
+
+import net.orbyfied.aspen.raw.RawIOContext;
+import net.orbyfied.aspen.raw.RawProvider;
+import net.orbyfied.aspen.raw.YamlRawProvider;
+import net.orbyfied.aspen.raw.nodes.RawNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap retained by the node tree
+ * composed from a large document, reported through
+ * the {@code retainedBytes} and {@code bytesPerKey}
+ * counters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms1g", "-Xmx1g" })
+public class RawNodeFootprintBenchmark {
+
+    // the amount of scalar keys in the document,
+    // spread over sections of 100 keys each
+    @Param({ "100000" })
+    int keys;
+
+    // the document
+    String document;
+
+    // the provider and context to compose with
+    YamlRawProvider provider;
+    RawIOContext context;
+
+    // the tree retained between the measurements
+    RawNode retained;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedBytes;
+        public long bytesPerKey;
+    }
+
+    @Setup
+    public void setup() {
+        StringBuilder b = new StringBuilder();
+        for (int s = 0; s < keys / 100; s++) {
+            b.append("section").append(s).append(":\n");
+            for (int k = 0; k < 100; k++) {
+                b.append("  key").append(k).append(": ");
+                switch (k % 3) {
+                    case 0 -> b.append(s * 100L + k);
+                    case 1 -> b.append('"').append("value ").append(k).append('"');
+                    default -> b.append(k % 2 == 0);
+                }
+
+                b.append('\n');
+            }
+        }
+
+        document = b.toString();
+        provider = YamlRawProvider.builder().build();
+        context = new RawIOContext() {
+            @Override
+            public String fileName() {
+                return "footprint.yml";
+            }
+
+            @Override
+            public RawProvider<?> rawProvider() {
+                return provider;
+            }
+        };
+    }
+
+    @Benchmark
+    public RawNode compose(Footprint footprint) {
+        retained = null;
+        long before = usedHeap();
+        retained = provider.compose(context, new StringReader(document));
+        long after = usedHeap();
+
+        footprint.retainedBytes = after - before;
+        footprint.bytesPerKey = (after - before) / keys;
+        return retained;
+    }
+
+    // get the used heap after collecting garbage
+    static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+}
@@ -0,0 +1,89 @@
+package bench.orbyfied.aspen;
+
+import net.orbyfied.aspen.raw.format.JLSSFormat;
+import net.orbyfied.aspen.raw.format.ScalarStyle;
+import net.orbyfied.aspen.raw.format.StringScalarRepresentation;
+import net.orbyfied.aspen.raw.nodes.RawValueNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading and dumping plain scalars through
+ * the {@link JLSSFormat} for a realistic mix of strings,
+ * integers, decimals and booleans, against the previous
+ * parse-and-catch approach.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScalarFormatBenchmark {
+
+    // the amount of scalars per document
+    static final int SIZE = 1024;
+
+    JLSSFormat format;
+
+    // the plain scalars
+    StringScalarRepresentation[] scalars;
+
+    // the loaded nodes to dump
+    RawValueNode<?>[] nodes;
+
+    @Setup
+    public void setup() {
+        format = new JLSSFormat();
+        Random random = new Random(42);
+        scalars = new StringScalarRepresentation[SIZE];
+        nodes = new RawValueNode[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            String str = switch (random.nextInt(6)) {
+                case 0 -> "some-identifier-" + i;
+                case 1 -> "en_US";
+                case 2 -> Integer.toString(random.nextInt(10_000));
+                case 3 -> Long.toString(random.nextLong());
+                case 4 -> Double.toString(Math.round(random.nextDouble() * 100_000) / 100.0);
+                default -> Boolean.toString(random.nextBoolean());
+            };
+
+            scalars[i] = new StringScalarRepresentation(str, ScalarStyle.PLAIN);
+            nodes[i] = format.load(scalars[i]);
+        }
+    }
+
+    @Benchmark
+    public void load(Blackhole bh) {
+        for (StringScalarRepresentation scalar : scalars)
+            bh.consume(format.load(scalar));
+    }
+
+    @Benchmark
+    public void dump(Blackhole bh) {
+        for (RawValueNode<?> node : nodes)
+            bh.consume(format.dump(node));
+    }
+
+    // the previous approach of parsing every scalar
+    // as a double and catching the exception for strings
+    @Benchmark
+    public void parseAndCatch(Blackhole bh) {
+        for (StringScalarRepresentation scalar : scalars) {
+            String str = scalar.string();
+            Object value;
+            try {
+                double d = Double.parseDouble(str);
+                value = d % 1 == 0 ? (Object) (long) d : (Object) d;
+            } catch (NumberFormatException e) {
+                value = str;
+            }
+
+            bh.consume(value);
+        }
+    }
+
+}
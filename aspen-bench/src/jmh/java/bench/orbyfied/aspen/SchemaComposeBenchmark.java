@@ -0,0 +1,97 @@
+package bench.orbyfied.aspen;
+
+import net.orbyfied.aspen.ConfigurationProvider;
+import net.orbyfied.aspen.OptionSchema;
+import net.orbyfied.aspen.annotation.MinMax;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.annotation.Section;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares composing a schema through the
+ * cached schema template against the cold,
+ * fully reflective compose path and the cold
+ * path using the generated schema binders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaComposeBenchmark {
+
+    // provider without template caching
+    ConfigurationProvider coldProvider;
+
+    // provider without template caching,
+    // using the generated binders
+    ConfigurationProvider boundProvider;
+
+    // provider with template caching
+    ConfigurationProvider templatedProvider;
+
+    @Setup
+    public void setup() throws Exception {
+        coldProvider = new ConfigurationProvider().cacheSchemaTemplates(false).useSchemaBinders(false);
+        boundProvider = new ConfigurationProvider().cacheSchemaTemplates(false);
+        templatedProvider = new ConfigurationProvider();
+
+        // warm the template cache
+        new OptionSchema(templatedProvider, new PlayerConfig()).compose(templatedProvider);
+    }
+
+    @Benchmark
+    public OptionSchema coldCompose() throws Exception {
+        return new OptionSchema(coldProvider, new PlayerConfig()).compose(coldProvider);
+    }
+
+    @Benchmark
+    public OptionSchema boundCompose() throws Exception {
+        return new OptionSchema(boundProvider, new PlayerConfig()).compose(boundProvider);
+    }
+
+    @Benchmark
+    public OptionSchema templatedCompose() throws Exception {
+        return new OptionSchema(templatedProvider, new PlayerConfig()).compose(templatedProvider);
+    }
+
+    /* Fixture */
+
+    public static class PlayerConfig {
+        public static class Chat {
+            @Option String prefix = "[player]";
+            @Option String suffix = "";
+            @Option Boolean colors = true;
+            @Option @MinMax(min = 0, max = 256) Integer maxLength = 256;
+        }
+
+        public static class Movement {
+            @Option Double walkSpeed = 0.2;
+            @Option Double flySpeed = 0.1;
+            @Option Boolean canFly = false;
+            @Option @MinMax(min = 0, max = 10) Integer jumpBoost = 0;
+        }
+
+        public static class Limits {
+            @Option Integer maxHomes = 3;
+            @Option Integer maxWarps = 0;
+            @Option Long cooldownMillis = 5000L;
+            @Option Double balanceCap = 1_000_000d;
+        }
+
+        @Option String nickname = "player";
+        @Option String locale = "en_US";
+        @Option Boolean notifications = true;
+        @Option Integer level = 1;
+        @Option Long playTime = 0L;
+        @Option Double balance = 0d;
+
+        @Section(name = "chat") Chat chat;
+        @Section(name = "movement") Movement movement;
+        @Section(name = "limits") Limits limits;
+    }
+
+}
@@ -1,8 +1,6 @@
 package net.orbyfied.aspen;
 
 import net.orbyfied.aspen.context.PropertyContext;
-import net.orbyfied.aspen.util.UnsafeUtil;
-import sun.misc.Unsafe;
 
 import java.lang.reflect.Field;
 import java.util.HashMap;
@@ -36,61 +34,93 @@ public interface Accessor<T> {
             public boolean has(PropertyContext context) {
                 return true;
             }
+
+            @Override
+            public boolean isAlwaysPresent() {
+                return true;
+            }
         };
     }
 
-    static <T> Accessor<T> memoryLocal() {
+    static <T> Accessor<T> lazySpecial(Supplier<T> supplier) {
         return new Accessor<>() {
-            // the value
-            T val;
-            // if it is set
-            boolean set = false;
-
             @Override
             public T get(PropertyContext context) {
-                return val;
+                return supplier.get();
             }
 
             @Override
             public void register(PropertyContext context, T value) {
-                val = value;
-                set = true;
+
             }
 
             @Override
             public boolean has(PropertyContext context) {
-                return set;
+                return true;
+            }
+
+            @Override
+            public boolean isAlwaysPresent() {
+                return true;
             }
         };
     }
 
-    @SuppressWarnings("unchecked")
-    static <T> Accessor<T> forField(Schema source,
-                                    Field field) {
-        final Unsafe unsafe = UnsafeUtil.getUnsafe();
-        final long offset = unsafe.objectFieldOffset(field);
+    static <T> Accessor<T> memoryLocal() {
         return new Accessor<>() {
-//            // if a value has been set
-//            boolean set = false;
+            // the value
+            T val;
+            // if it is set
+            boolean set = false;
 
             @Override
             public T get(PropertyContext context) {
-                return (T) unsafe.getObjectVolatile(source.instance, offset);
+                return val;
             }
 
             @Override
             public void register(PropertyContext context, T value) {
-                unsafe.putObjectVolatile(source.instance, offset, value);
-//                set = true;
+                val = value;
+                set = true;
             }
 
             @Override
             public boolean has(PropertyContext context) {
-                return true;
+                return set;
             }
         };
     }
 
+    /**
+     * Creates an accessor for the given field on
+     * the instance of the source schema, using the
+     * memory order configured on the schema.
+     *
+     * @param source The source schema.
+     * @param field The field.
+     * @return The accessor.
+     */
+    static <T> Accessor<T> forField(Schema source,
+                                    Field field) {
+        return forField(source, field, source.memoryOrder());
+    }
+
+    /**
+     * Creates an accessor for the given field on
+     * the instance of the source schema, using the
+     * given memory order.
+     *
+     * @param source The source schema.
+     * @param field The field.
+     * @param order The memory order.
+     * @return The accessor.
+     */
+    static <T> Accessor<T> forField(Schema source,
+                                    Field field,
+                                    MemoryOrder order) {
+        return FieldAccessor.of(source, FieldAccessor.handleFor(field), order);
+    }
+
     static <T> Accessor<T> defaulted(Accessor<T> accessor,
                                      Supplier<T> defSupplier) {
         if (defSupplier == null)
@@ -119,6 +149,23 @@ public interface Accessor<T> {
         };
     }
 
+    /**
+     * Compiles the accessor used by a property,
+     * inlining the default value handling. If the
+     * accessor always has a value or no default is
+     * provided, the accessor is returned as is.
+     *
+     * @param accessor The accessor.
+     * @param defSupplier The default value supplier, may be null.
+     * @return The compiled accessor.
+     */
+    static <T> Accessor<T> compile(Accessor<T> accessor,
+                                   Supplier<T> defSupplier) {
+        if (defSupplier == null || accessor.isAlwaysPresent())
+            return accessor;
+        return defaulted(accessor, defSupplier);
+    }
+
     static <T> Accessor<T> dynamic(Supplier<Accessor<T>> supplier) {
         return new Accessor<>() {
             @Override
@@ -166,6 +213,104 @@ public interface Accessor<T> {
         };
     }
 
+    /* Primitive Specializations */
+
+    /**
+     * An accessor for {@code int} values,
+     * which can be read and written without boxing.
+     */
+    interface OfInt extends Accessor<Integer> {
+
+        int getInt(PropertyContext context);
+
+        void registerInt(PropertyContext context, int value);
+
+        @Override
+        default Integer get(PropertyContext context) {
+            return getInt(context);
+        }
+
+        @Override
+        default void register(PropertyContext context, Integer value) {
+            registerInt(context, requirePrimitive(value));
+        }
+
+    }
+
+    /**
+     * An accessor for {@code long} values,
+     * which can be read and written without boxing.
+     */
+    interface OfLong extends Accessor<Long> {
+
+        long getLong(PropertyContext context);
+
+        void registerLong(PropertyContext context, long value);
+
+        @Override
+        default Long get(PropertyContext context) {
+            return getLong(context);
+        }
+
+        @Override
+        default void register(PropertyContext context, Long value) {
+            registerLong(context, requirePrimitive(value));
+        }
+
+    }
+
+    /**
+     * An accessor for {@code double} values,
+     * which can be read and written without boxing.
+     */
+    interface OfDouble extends Accessor<Double> {
+
+        double getDouble(PropertyContext context);
+
+        void registerDouble(PropertyContext context, double value);
+
+        @Override
+        default Double get(PropertyContext context) {
+            return getDouble(context);
+        }
+
+        @Override
+        default void register(PropertyContext context, Double value) {
+            registerDouble(context, requirePrimitive(value));
+        }
+
+    }
+
+    /**
+     * An accessor for {@code boolean} values,
+     * which can be read and written without boxing.
+     */
+    interface OfBoolean extends Accessor<Boolean> {
+
+        boolean getBoolean(PropertyContext context);
+
+        void registerBoolean(PropertyContext context, boolean value);
+
+        @Override
+        default Boolean get(PropertyContext context) {
+            return getBoolean(context);
+        }
+
+        @Override
+        default void register(PropertyContext context, Boolean value) {
+            registerBoolean(context, requirePrimitive(value));
+        }
+
+    }
+
+    // check a boxed value registered
+    // to a primitive accessor is not null
+    private static <T> T requirePrimitive(T value) {
+        if (value == null)
+            throw new IllegalArgumentException("can not register null to a primitive accessor");
+        return value;
+    }
+
     ///////////////////////////////
 
     /**
@@ -198,4 +343,15 @@ public interface Accessor<T> {
      */
     boolean has(PropertyContext context);
 
+    /**
+     * If this accessor has a value in every
+     * context, which means {@link #has(PropertyContext)}
+     * never has to be checked.
+     *
+     * @return True/false.
+     */
+    default boolean isAlwaysPresent() {
+        return false;
+    }
+
 }
@@ -0,0 +1,97 @@
+package net.orbyfied.aspen;
+
+import net.orbyfied.aspen.exception.AspenException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of a batch operation on a set of option
+ * profiles, see {@link ConfigurationProvider#loadAll(java.util.Collection)}
+ * and {@link ConfigurationProvider#saveAll(java.util.Collection)}.
+ *
+ * A failure of one profile does not affect the others,
+ * all failures are collected by profile.
+ *
+ * @author orbyfied
+ */
+public final class BatchResult {
+
+    // the profiles in the batch, in order
+    private final List<OptionProfile> profiles;
+
+    // the failures by profile, in batch order
+    private final Map<OptionProfile, Throwable> failures;
+
+    BatchResult(List<OptionProfile> profiles, Map<OptionProfile, Throwable> failures) {
+        this.profiles = profiles;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Get all profiles in the batch.
+     *
+     * @return The profiles.
+     */
+    public List<OptionProfile> profiles() {
+        return profiles;
+    }
+
+    /**
+     * Get the failures by profile.
+     *
+     * @return The failures.
+     */
+    public Map<OptionProfile, Throwable> failures() {
+        return failures;
+    }
+
+    /**
+     * Get the profiles which completed successfully.
+     *
+     * @return The profiles.
+     */
+    public List<OptionProfile> succeeded() {
+        List<OptionProfile> list = new ArrayList<>(profiles.size() - failures.size());
+        for (OptionProfile profile : profiles)
+            if (!failures.containsKey(profile))
+                list.add(profile);
+        return list;
+    }
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Throws if any profile failed, with the other
+     * failures added as suppressed exceptions.
+     *
+     * @return This.
+     * @throws AspenException If any profile failed.
+     */
+    public BatchResult throwIfFailed() {
+        if (failures.isEmpty())
+            return this;
+
+        AspenException exception = null;
+        for (Map.Entry<OptionProfile, Throwable> entry : failures.entrySet()) {
+            if (exception == null) {
+                exception = new AspenException(failures.size() + " of " + profiles.size() +
+                        " profiles failed, first: '" + entry.getKey().name() + "'", entry.getValue());
+            } else {
+                exception.addSuppressed(entry.getValue());
+            }
+        }
+
+        throw exception;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult(" + (profiles.size() - failures.size()) + "/" + profiles.size() + " succeeded)";
+    }
+
+}
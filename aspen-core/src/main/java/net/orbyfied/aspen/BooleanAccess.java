@@ -0,0 +1,93 @@
+package net.orbyfied.aspen;
+
+import net.orbyfied.aspen.properties.BooleanProperty;
+
+/**
+ * A {@link PropertyAccess} for {@code boolean} properties,
+ * which can read and write without boxing.
+ */
+public interface BooleanAccess extends PropertyAccess<Boolean> {
+
+    /**
+     * Creates a placeholder access for the given
+     * property, see {@link PropertyAccess#future(Property)}.
+     *
+     * @param property The property.
+     * @return The future access instance.
+     */
+    static BooleanAccess future(BooleanProperty property) {
+        return new Future(property);
+    }
+
+    /**
+     * Creates a placeholder access which finds the
+     * property, see {@link PropertyAccess#find(String)}.
+     *
+     * @param path The property path.
+     * @return The future access instance.
+     */
+    static BooleanAccess find(String path) {
+        return new Future(path);
+    }
+
+    class Future extends PropertyAccess.TypedFuture<Boolean, BooleanAccess> implements BooleanAccess {
+        public Future(Property<?, ?> property) {
+            super(BooleanAccess.class, property, null);
+        }
+
+        public Future(String path) {
+            super(BooleanAccess.class, null, path);
+        }
+
+        @Override
+        public boolean getBoolean() {
+            return typed().getBoolean();
+        }
+
+        @Override
+        public void setBoolean(boolean value) {
+            typed().setBoolean(value);
+        }
+    }
+
+    static BooleanAccess constant(BooleanProperty property,
+                             ConfigurationProvider provider,
+                             Schema schema) {
+        return new Constant(property, provider, schema);
+    }
+
+    class Constant extends PropertyAccess.Constant<Boolean, BooleanProperty> implements BooleanAccess {
+        Constant(BooleanProperty property, ConfigurationProvider provider, Schema schema) {
+            super(property, provider, schema);
+        }
+
+        @Override
+        public boolean getBoolean() {
+            return property.getBoolean(context);
+        }
+
+        @Override
+        public void setBoolean(boolean value) {
+            property.setBoolean(context, value);
+        }
+    }
+
+    //////////////////////////////////////////
+
+    boolean getBoolean();
+
+    void setBoolean(boolean value);
+
+    @Override
+    default Boolean get() {
+        return getBoolean();
+    }
+
+    @Override
+    default void set(Boolean value) {
+        if (value == null)
+            throw new IllegalArgumentException("can not set null to a primitive access");
+        setBoolean(value);
+    }
+
+}
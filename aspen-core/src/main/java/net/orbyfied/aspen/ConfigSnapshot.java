@@ -0,0 +1,247 @@
+package net.orbyfied.aspen;
+
+import net.orbyfied.aspen.context.PropertyContext;
+
+import java.util.*;
+
+/**
+ * An immutable copy of all option values of a profile,
+ * captured after a load completed.
+ *
+ * When snapshots are enabled through {@link ConfigurationProvider#snapshots(boolean)}
+ * loads are staged, and every {@link OptionSchema#publish(LoadStaging)} builds
+ * a new snapshot from the staged values before any field is written.
+ * The snapshot is then swapped in with a single volatile write, so a
+ * reader which got a snapshot through {@link OptionSchema#snapshot()}
+ * always sees the values of one complete load, never a mix of two,
+ * without locking.
+ *
+ * Values are addressed by their path from the root schema,
+ * like {@code section/key}. For hot paths a {@link Key} can be
+ * resolved once and used for plain array reads afterwards.
+ *
+ * Note that only the snapshot itself is immutable, mutable
+ * values like lists and maps are not copied. Lazy sections
+ * which are not composed yet are not part of the snapshot.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public final class ConfigSnapshot {
+
+    /**
+     * The layout of the values, shared between all
+     * snapshots of a schema while its properties
+     * do not change.
+     */
+    static final class Layout {
+
+        // the properties and paths in value order
+        final Property[] properties;
+        final String[] paths;
+
+        // the indices by path
+        final Map<String, Integer> indices;
+
+        Layout(Property[] properties, String[] paths, Map<String, Integer> indices) {
+            this.properties = properties;
+            this.paths = paths;
+            this.indices = indices;
+        }
+
+    }
+
+    /**
+     * A resolved path into the snapshots of
+     * a schema, which allows reading values
+     * without a map lookup.
+     *
+     * @param <T> The value type.
+     */
+    public static final class Key<T> {
+
+        // the path
+        final String path;
+
+        // the layout the index was resolved in
+        final Layout layout;
+        final int index;
+
+        Key(String path, Layout layout, int index) {
+            this.path = path;
+            this.layout = layout;
+            this.index = index;
+        }
+
+        public String path() {
+            return path;
+        }
+
+    }
+
+    /**
+     * Captures the values of the given schema, taking the
+     * staged values of a load over the current ones.
+     *
+     * @param schema The root schema.
+     * @param previous The previous snapshot to share the layout with, or null.
+     * @param generation The generation of the snapshot.
+     * @param staging The staged values, or null.
+     * @return The snapshot.
+     */
+    static ConfigSnapshot capture(OptionSchema schema, ConfigSnapshot previous, long generation,
+                                  LoadStaging staging) {
+        List<Property> properties = new ArrayList<>();
+        List<String> paths = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        collect(schema, "", staging, properties, paths, values);
+
+        // reuse the previous layout if the properties did not change
+        Layout layout = previous != null ? previous.layout : null;
+        if (layout == null || !sameProperties(layout.properties, properties)) {
+            Map<String, Integer> indices = new HashMap<>();
+            for (int i = 0; i < paths.size(); i++)
+                indices.put(paths.get(i), i);
+            layout = new Layout(properties.toArray(new Property[0]), paths.toArray(new String[0]), indices);
+        }
+
+        return new ConfigSnapshot(layout, values.toArray(), generation);
+    }
+
+    // collect the values of the given schema
+    // and its sections and option children
+    static void collect(Schema schema, String prefix, LoadStaging staging,
+                        List<Property> properties, List<String> paths, List<Object> values) {
+        if (schema instanceof OptionSchema optionSchema) {
+            for (OptionSchema child : optionSchema.providedChildren) {
+                collect(child, prefix, staging, properties, paths, values);
+            }
+        }
+
+        PropertyContext context = new PropertyContext(schema.provider, null, schema);
+        for (Property property : schema.propertyMap.values()) {
+            if (property instanceof SectionProperty section) {
+                // lazy sections which are not composed yet
+                // are left out instead of composing them
+                if (section.isComposed())
+                    collect(section.section(), prefix + property.getName() + "/", staging, properties, paths, values);
+                continue;
+            }
+
+            properties.add(property);
+            paths.add(prefix + property.getName());
+            if (staging != null && staging.has(property)) {
+                values.add(staging.get(property));
+                continue;
+            }
+
+            values.add(property.has(context.property(property)) ? property.get(context) : null);
+        }
+    }
+
+    static boolean sameProperties(Property[] layout, List<Property> properties) {
+        if (layout.length != properties.size())
+            return false;
+        for (int i = 0; i < layout.length; i++)
+            if (layout[i] != properties.get(i))
+                return false;
+        return true;
+    }
+
+    ///////////////////////////////////////
+
+    // the layout of the values
+    final Layout layout;
+
+    // the values
+    final Object[] values;
+
+    // the publish generation this
+    // snapshot was captured at
+    final long generation;
+
+    ConfigSnapshot(Layout layout, Object[] values, long generation) {
+        this.layout = layout;
+        this.values = values;
+        this.generation = generation;
+    }
+
+    /**
+     * Get the publish generation of the schema
+     * this snapshot was captured at.
+     *
+     * @return The generation.
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * Resolve the given path to a key for
+     * fast reads from this and later snapshots.
+     *
+     * @param path The path.
+     * @param <T> The value type.
+     * @return The key.
+     * @throws IllegalArgumentException If no option with the given path exists.
+     */
+    public <T> Key<T> key(String path) {
+        Integer index = layout.indices.get(path);
+        if (index == null)
+            throw new IllegalArgumentException("No option by path '" + path + "'");
+        return new Key<>(path, layout, index);
+    }
+
+    /**
+     * Get the value of the option with the given key.
+     *
+     * @param key The key.
+     * @param <T> The value type.
+     * @return The value.
+     */
+    public <T> T get(Key<T> key) {
+        if (key.layout == layout)
+            return (T) values[key.index];
+        return get(key.path);
+    }
+
+    /**
+     * Get the value of the option with the given path.
+     *
+     * @param path The path.
+     * @param <T> The value type.
+     * @return The value or null if absent.
+     */
+    public <T> T get(String path) {
+        Integer index = layout.indices.get(path);
+        return index != null ? (T) values[index] : null;
+    }
+
+    /**
+     * Check whether an option with the given path exists.
+     *
+     * @param path The path.
+     * @return True/false.
+     */
+    public boolean has(String path) {
+        return layout.indices.containsKey(path);
+    }
+
+    /**
+     * Get the amount of options.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Get all values by path, in declaration order.
+     *
+     * @return The map.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++)
+            map.put(layout.paths[i], values[i]);
+        return map;
+    }
+
+}
@@ -1,26 +1,30 @@
 package net.orbyfied.aspen;
 
-import net.orbyfied.aspen.annotation.Defaults;
-import net.orbyfied.aspen.annotation.Docs;
 import net.orbyfied.aspen.annotation.MinMax;
 import net.orbyfied.aspen.components.ValueConstraints;
 import net.orbyfied.aspen.context.*;
+import net.orbyfied.aspen.properties.BooleanProperty;
+import net.orbyfied.aspen.properties.DoubleProperty;
+import net.orbyfied.aspen.properties.IntProperty;
+import net.orbyfied.aspen.properties.LongProperty;
 import net.orbyfied.aspen.properties.NumberProperty;
 import net.orbyfied.aspen.properties.SimpleProperty;
 import net.orbyfied.aspen.raw.RawProvider;
 import net.orbyfied.aspen.raw.format.JLSSFormat;
 import net.orbyfied.aspen.raw.format.StringScalarFormat;
 import net.orbyfied.aspen.raw.nodes.RawNode;
-import net.orbyfied.aspen.util.Pair;
+import net.orbyfied.aspen.raw.stream.StreamingRawProvider;
 import net.orbyfied.aspen.util.Throwables;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -103,14 +107,41 @@ public class ConfigurationProvider {
 
     };
 
+    /**
+     * The key of a cached option composer dispatch.
+     *
+     * @param type The option type.
+     * @param annotationTypes The types of the annotations present on the element.
+     */
+    record DispatchKey(Class<?> type, List<Class<? extends Annotation>> annotationTypes) {
+
+        static DispatchKey of(OptionComposeContext context) {
+            AnnotatedElement element = context.element();
+            if (element == null)
+                return new DispatchKey(context.type(), List.of());
+
+            Annotation[] annotations = element.getAnnotations();
+            Class<? extends Annotation>[] types = new Class[annotations.length];
+            for (int i = 0; i < annotations.length; i++)
+                types[i] = annotations[i].annotationType();
+            return new DispatchKey(context.type(), List.of(types));
+        }
+
+    }
+
+    /**
+     * A cached option composer dispatch.
+     *
+     * @param matched The static composers which matched.
+     * @param pipeline The pipeline if no dynamic composers are registered.
+     */
+    record Dispatch(Set<OptionComposer> matched, OptionComposer pipeline) { }
+
     /*
         Global Providers
      */
 
-    static final List<Pair<Predicate<Class<?>>, ConfigurationProvider>> GLOBAL_PROVIDERS =
-            new ArrayList<>();
-    static final Map<Class<?>, ConfigurationProvider> GLOBAL_PROVIDER_CACHE =
-            new HashMap<>();
+    static final GlobalProviderRegistry GLOBAL_PROVIDERS = new GlobalProviderRegistry();
 
     /**
      * Create a new global provider for all classes
@@ -121,7 +152,7 @@ public class ConfigurationProvider {
      */
     public static ConfigurationProvider newGlobal(Predicate<Class<?>> predicate) {
         ConfigurationProvider provider = new ConfigurationProvider();
-        GLOBAL_PROVIDERS.add(new Pair<>(predicate, provider));
+        GLOBAL_PROVIDERS.register(predicate, provider);
         return provider;
     }
 
@@ -133,38 +164,23 @@ public class ConfigurationProvider {
      * @return The provider.
      */
     public static ConfigurationProvider newGlobalUnderPackage(final String packageName) {
-        final String fName;
-        if (!packageName.endsWith("."))
-            fName = packageName + ".";
-        else
-            fName = packageName;
-        return newGlobal(klass -> klass.getName().startsWith(fName));
+        ConfigurationProvider provider = new ConfigurationProvider();
+        GLOBAL_PROVIDERS.registerPackage(packageName, provider);
+        return provider;
     }
 
     /**
      * Get a global configuration provider for the
      * given class.
      *
-     * Indexes the cache first.
+     * The result is cached per class, this is
+     * safe to call from any thread.
      *
      * @param klass The class to find for.
      * @return The provider or null if absent.
      */
     public static ConfigurationProvider getGlobal(Class<?> klass) {
-        ConfigurationProvider provider = GLOBAL_PROVIDER_CACHE.get(klass);
-        if (provider != null) {
-            return provider;
-        }
-
-        for (Pair<Predicate<Class<?>>, ConfigurationProvider> pair : GLOBAL_PROVIDERS) {
-            if (pair.first.test(klass)) {
-                provider = pair.second;
-                GLOBAL_PROVIDER_CACHE.put(klass, provider);
-                return provider;
-            }
-        }
-
-        return null;
+        return GLOBAL_PROVIDERS.get(klass);
     }
 
     ///////////////////////////////////
@@ -181,27 +197,85 @@ public class ConfigurationProvider {
     // the registered option composers
     private List<OptionComposer> optionComposers = new ArrayList<>();
 
+    // the cached option composer dispatches,
+    // cleared when the composers change
+    private final Map<DispatchKey, Dispatch> optionComposerDispatches = new ConcurrentHashMap<>();
+
+    // the amount of registered option composers
+    // without a static match
+    private int dynamicOptionComposers;
+
     // the registered schema composers
     private List<SchemaComposer> schemaComposers = new ArrayList<>();
 
     // the raw processors
     private List<NodeTransformer> rawTransformers = new ArrayList<>();
 
+    // the reload manager, lazily created
+    volatile ReloadManager reloadManager;
+
+    // the save manager, created on first use
+    volatile SaveManager saveManager;
+
+    // the amount of loads skipped because
+    // the file was unchanged
+    final LongAdder skippedLoads = new LongAdder();
+
+    // the cached schema templates by class,
+    // replaced when anything they depend on changes
+    private volatile ClassValue<SchemaTemplate> schemaTemplates = newSchemaTemplateCache();
+
     {
         /* default option processors */
         withOptionComposer(OptionComposer.composeAllOfType(Number.class, context -> {
             context.builder(NumberProperty.builder(context.name(), context.type()));
             return true;
-        }, context -> {
-            context.processIfPresent(MinMax.class, minMax -> {
-                context.builder().with(ValueConstraints.minMax(minMax.min(), minMax.max()));
-            });
-        }));
+        }, ConfigurationProvider::configureNumber));
+
+        /* primitive option processors */
+        withOptionComposer(OptionComposer.composeAllOfType(int.class, context -> {
+            context.builder(IntProperty.builder(context.name()));
+            return true;
+        }, ConfigurationProvider::configureNumber));
+        withOptionComposer(OptionComposer.composeAllOfType(long.class, context -> {
+            context.builder(LongProperty.builder(context.name()));
+            return true;
+        }, ConfigurationProvider::configureNumber));
+        withOptionComposer(OptionComposer.composeAllOfType(double.class, context -> {
+            context.builder(DoubleProperty.builder(context.name()));
+            return true;
+        }, ConfigurationProvider::configureNumber));
+        withOptionComposer(OptionComposer.composeAllOfType(boolean.class, context -> {
+            context.builder(BooleanProperty.builder(context.name()));
+            return true;
+        }, context -> { }));
+    }
+
+    // configure the constraints of number options
+    static void configureNumber(OptionComposeContext context) {
+        context.processIfPresent(MinMax.class, minMax -> {
+            context.builder().with(ValueConstraints.minMax(minMax.min(), minMax.max()));
+        });
     }
 
     /* Settings */
 
     boolean settingProcessAnnotations = true;
+    boolean settingCacheSchemaTemplates = true;
+    boolean settingUseSchemaBinders = true;
+    MemoryOrder settingMemoryOrder = MemoryOrder.ACQUIRE_RELEASE;
+    boolean settingStreamingLoad = true;
+    long settingReloadDebounce = 100;
+    boolean settingSnapshots = false;
+    boolean settingParallelCompose = false;
+    boolean settingLazySections = false;
+    Executor settingBatchExecutor = null;
+    int settingBatchConcurrency = 16;
+    boolean settingAsyncSave = false;
+    long settingSaveDelay = 500;
+    boolean settingSyncWrites = false;
+    boolean settingDirtyTracking = false;
+    boolean settingSkipUnchangedLoads = false;
 
     // TODO: settings system
     //  for now we just use fields
@@ -239,6 +313,7 @@ public class ConfigurationProvider {
     public ConfigurationProvider setting(String name, Object value) {
         try {
             findSettingField(name).set(this, value);
+            invalidateSchemaTemplates();
             return this;
         } catch (Exception e) {
             Throwables.sneakyThrow(e);
@@ -265,6 +340,7 @@ public class ConfigurationProvider {
 
     public ConfigurationProvider processAnnotations(boolean b) {
         this.settingProcessAnnotations = b;
+        invalidateSchemaTemplates();
         return this;
     }
 
@@ -272,6 +348,329 @@ public class ConfigurationProvider {
         return settingProcessAnnotations;
     }
 
+    public ConfigurationProvider cacheSchemaTemplates(boolean b) {
+        this.settingCacheSchemaTemplates = b;
+        invalidateSchemaTemplates();
+        return this;
+    }
+
+    public boolean cacheSchemaTemplates() {
+        return settingCacheSchemaTemplates;
+    }
+
+    /**
+     * Set whether schema templates should be created
+     * from build time generated {@link SchemaBinder}s
+     * when available, instead of reflection.
+     *
+     * @param b The flag.
+     * @return This.
+     */
+    public ConfigurationProvider useSchemaBinders(boolean b) {
+        this.settingUseSchemaBinders = b;
+        invalidateSchemaTemplates();
+        return this;
+    }
+
+    public boolean useSchemaBinders() {
+        return settingUseSchemaBinders;
+    }
+
+    /**
+     * Set the default memory order used by field
+     * accessors of newly created schemas, which is
+     * {@link MemoryOrder#ACQUIRE_RELEASE} by default.
+     *
+     * @param order The memory order.
+     * @return This.
+     */
+    public ConfigurationProvider memoryOrder(MemoryOrder order) {
+        this.settingMemoryOrder = order;
+        return this;
+    }
+
+    public MemoryOrder memoryOrder() {
+        return settingMemoryOrder;
+    }
+
+    /**
+     * Set whether profiles should be loaded by streaming
+     * the parser events straight into the schema when the
+     * raw provider supports it, instead of composing a node
+     * tree first. Streaming is never used while raw
+     * transformers are registered.
+     *
+     * @param b The flag.
+     * @return This.
+     */
+    public ConfigurationProvider streamingLoad(boolean b) {
+        this.settingStreamingLoad = b;
+        return this;
+    }
+
+    public boolean streamingLoad() {
+        return settingStreamingLoad;
+    }
+
+    /**
+     * Set how long the {@link ReloadManager} waits after the
+     * last file system event for a file before reloading it,
+     * so bursts of events from a single save cause one reload.
+     *
+     * @param millis The debounce delay in milliseconds.
+     * @return This.
+     */
+    public ConfigurationProvider reloadDebounce(long millis) {
+        this.settingReloadDebounce = millis;
+        return this;
+    }
+
+    public long reloadDebounce() {
+        return settingReloadDebounce;
+    }
+
+    /**
+     * Set whether every load of a profile should publish
+     * an immutable {@link ConfigSnapshot} of the values, which
+     * allows other threads to read a consistent set of values
+     * while a reload is in progress.
+     *
+     * Loaded values are then staged and only written to the
+     * fields once the load succeeded, see {@link LoadStaging}.
+     *
+     * @param b The flag.
+     * @return This.
+     */
+    public ConfigurationProvider snapshots(boolean b) {
+        this.settingSnapshots = b;
+        return this;
+    }
+
+    public boolean snapshots() {
+        return settingSnapshots;
+    }
+
+    /**
+     * Set whether independent child sections and option
+     * containers should be composed in parallel as fork/join
+     * tasks. Post-compose tasks still run in declaration order
+     * after all children are composed.
+     *
+     * This requires all registered composers to be thread safe.
+     *
+     * @param b The flag.
+     * @return This.
+     */
+    public ConfigurationProvider parallelCompose(boolean b) {
+        this.settingParallelCompose = b;
+        return this;
+    }
+
+    public boolean parallelCompose() {
+        return settingParallelCompose;
+    }
+
+    /**
+     * Set whether sections should only be composed when
+     * they are first accessed, loaded or emitted. Objects
+     * loaded before that are kept and bound on composition.
+     *
+     * Fields of a lazy section instance only receive loaded
+     * values once the section has been accessed through its
+     * schema. Lazy sections are never composed in parallel.
+     *
+     * @param b The flag.
+     * @return This.
+     */
+    public ConfigurationProvider lazySections(boolean b) {
+        this.settingLazySections = b;
+        return this;
+    }
+
+    public boolean lazySections() {
+        return settingLazySections;
+    }
+
+    /**
+     * Set the executor batch operations run on, null
+     * to use virtual threads where supported.
+     *
+     * @param executor The executor.
+     * @return This.
+     */
+    public ConfigurationProvider batchExecutor(Executor executor) {
+        this.settingBatchExecutor = executor;
+        return this;
+    }
+
+    public Executor batchExecutor() {
+        return settingBatchExecutor != null ? settingBatchExecutor : ProfileBatch.defaultExecutor();
+    }
+
+    /**
+     * Set the maximum amount of profiles a batch
+     * operation processes at the same time.
+     *
+     * @param concurrency The concurrency.
+     * @return This.
+     */
+    public ConfigurationProvider batchConcurrency(int concurrency) {
+        if (concurrency < 1)
+            throw new IllegalArgumentException("Batch concurrency must be at least 1");
+        this.settingBatchConcurrency = concurrency;
+        return this;
+    }
+
+    public int batchConcurrency() {
+        return settingBatchConcurrency;
+    }
+
+    /**
+     * Set whether setting a property value should mark its
+     * profile dirty, so it is written in the background by
+     * the {@link #saveManager()}.
+     *
+     * @param b The flag.
+     * @return This.
+     */
+    public ConfigurationProvider asyncSave(boolean b) {
+        this.settingAsyncSave = b;
+        return this;
+    }
+
+    public boolean asyncSave() {
+        return settingAsyncSave;
+    }
+
+    /**
+     * Set how long the {@link SaveManager} waits after a profile
+     * was marked dirty before writing it, all changes in that
+     * window are coalesced into one write.
+     *
+     * @param millis The delay in milliseconds.
+     * @return This.
+     */
+    public ConfigurationProvider saveDelay(long millis) {
+        this.settingSaveDelay = millis;
+        return this;
+    }
+
+    public long saveDelay() {
+        return settingSaveDelay;
+    }
+
+    /**
+     * Set whether saved files should be forced to the storage
+     * device before they replace the old file. Saves are always
+     * atomic, this additionally protects against power loss at
+     * the cost of slower saves.
+     *
+     * @param b The flag.
+     * @return This.
+     */
+    public ConfigurationProvider syncWrites(boolean b) {
+        this.settingSyncWrites = b;
+        return this;
+    }
+
+    public boolean syncWrites() {
+        return settingSyncWrites;
+    }
+
+    /**
+     * Set whether changes to values should be tracked, so
+     * {@link OptionProfile#save()} skips profiles which have
+     * not changed since they were last saved, and clean sections
+     * reuse the nodes they were last emitted to.
+     *
+     * Only values set through properties, like {@link Property#set(Object)}
+     * or {@link PropertyAccess#set(Object)}, are tracked. Values
+     * assigned to the fields directly are not noticed.
+     *
+     * @param b The flag.
+     * @return This.
+     */
+    public ConfigurationProvider dirtyTracking(boolean b) {
+        this.settingDirtyTracking = b;
+        return this;
+    }
+
+    public boolean dirtyTracking() {
+        return settingDirtyTracking;
+    }
+
+    /**
+     * Set whether {@link OptionProfile#load()} should skip files
+     * which are unchanged since the last load, by comparing their
+     * size, modification time and a checksum of the content.
+     *
+     * Setting a value through a property makes the next load
+     * parse the file again. Values assigned to the fields directly
+     * are not noticed, use {@link OptionProfile#load(boolean)} to
+     * force a load in that case.
+     *
+     * @param b The flag.
+     * @return This.
+     */
+    public ConfigurationProvider skipUnchangedLoads(boolean b) {
+        this.settingSkipUnchangedLoads = b;
+        return this;
+    }
+
+    public boolean skipUnchangedLoads() {
+        return settingSkipUnchangedLoads;
+    }
+
+    /**
+     * Get the amount of profile loads which were skipped
+     * because the file was unchanged, over all profiles
+     * of this provider.
+     *
+     * @return The count.
+     */
+    public long skippedLoads() {
+        return skippedLoads.sum();
+    }
+
+    // create a new class value caching
+    // the schema templates for this provider
+    private ClassValue<SchemaTemplate> newSchemaTemplateCache() {
+        return new ClassValue<>() {
+            @Override
+            protected SchemaTemplate computeValue(Class<?> type) {
+                return SchemaTemplate.create(ConfigurationProvider.this, type);
+            }
+        };
+    }
+
+    /**
+     * Get the schema template for the given class.
+     *
+     * If template caching is enabled this will return
+     * the cached template, otherwise a new template is
+     * created every call.
+     *
+     * @param klass The schema class.
+     * @return The template.
+     */
+    public SchemaTemplate getSchemaTemplate(Class<?> klass) {
+        if (!settingCacheSchemaTemplates)
+            return SchemaTemplate.create(this, klass);
+        return schemaTemplates.get(klass);
+    }
+
+    /**
+     * Drops all cached schema templates, called
+     * automatically when the option composers or
+     * settings change.
+     *
+     * @return This.
+     */
+    public ConfigurationProvider invalidateSchemaTemplates() {
+        schemaTemplates = newSchemaTemplateCache();
+        return this;
+    }
+
     public ConfigurationProvider rawProvider(RawProvider provider) {
         this.rawProvider = provider;
         return this;
@@ -290,27 +689,64 @@ public class ConfigurationProvider {
      */
     public ConfigurationProvider withOptionComposer(OptionComposer processor) {
         optionComposers.add(processor);
+        invalidateOptionComposers();
         return this;
     }
 
     public ConfigurationProvider removeOptionComposer(OptionComposer composer) {
         optionComposers.remove(composer);
+        invalidateOptionComposers();
         return this;
     }
 
+    // drop everything derived from
+    // the registered option composers
+    private void invalidateOptionComposers() {
+        int dynamic = 0;
+        for (OptionComposer composer : optionComposers)
+            if (!composer.hasStaticMatch())
+                dynamic++;
+        dynamicOptionComposers = dynamic;
+        optionComposerDispatches.clear();
+        invalidateSchemaTemplates();
+    }
+
     /**
      * Finds the correct option composers for
      * the given context and builds a pipeline.
      *
+     * The matches of composers with a {@link OptionComposer#hasStaticMatch() static match}
+     * are cached by option type and present annotation types,
+     * so if only static composers are registered the pipeline
+     * is built once per combination.
+     *
      * @param context The context.
      * @return The pipeline.
      */
     public OptionComposer findOptionComposerPipeline(OptionComposeContext context) {
+        Dispatch dispatch = optionComposerDispatches.computeIfAbsent(DispatchKey.of(context), __ -> {
+            Set<OptionComposer> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<OptionComposer> processors = new ArrayList<>();
+            for (OptionComposer processor : this.optionComposers) {
+                if (processor.hasStaticMatch() && processor.matches(context)) {
+                    matched.add(processor);
+                    processors.add(processor);
+                }
+            }
+
+            return new Dispatch(matched, dynamicOptionComposers == 0 ?
+                    OptionComposer.orderedPipeline(processors) : null);
+        });
+
+        if (dispatch.pipeline() != null)
+            return dispatch.pipeline();
+
+        // merge in the dynamic composers
         List<OptionComposer> processors = new ArrayList<>();
         for (OptionComposer processor : this.optionComposers) {
-            if (processor.matches(
-                    context
-            )) {
+            if (processor.hasStaticMatch() ?
+                    dispatch.matched().contains(processor) :
+                    processor.matches(context)) {
                 processors.add(processor);
             }
         }
@@ -349,6 +785,72 @@ public class ConfigurationProvider {
         return this;
     }
 
+    /**
+     * Get the reload manager of this provider, which
+     * watches the files of profiles for changes. All profiles
+     * watched through it share a single watcher thread.
+     *
+     * @return The reload manager.
+     */
+    public ReloadManager reloadManager() {
+        ReloadManager manager = reloadManager;
+        if (manager == null) {
+            synchronized (this) {
+                manager = reloadManager;
+                if (manager == null)
+                    reloadManager = manager = new ReloadManager(this);
+            }
+        }
+
+        return manager;
+    }
+
+    /**
+     * Get the save manager of this provider, which writes
+     * dirty profiles in the background. All profiles share
+     * a single writer thread.
+     *
+     * @return The save manager.
+     */
+    public SaveManager saveManager() {
+        SaveManager manager = saveManager;
+        if (manager == null) {
+            synchronized (this) {
+                manager = saveManager;
+                if (manager == null)
+                    saveManager = manager = new SaveManager(this);
+            }
+        }
+
+        return manager;
+    }
+
+    /**
+     * Loads all given profiles on the {@link #batchExecutor()},
+     * with at most {@link #batchConcurrency()} at a time.
+     *
+     * The future completes once all profiles are done,
+     * failures are reported per profile in the result.
+     *
+     * @param profiles The profiles.
+     * @return The future result.
+     */
+    public CompletableFuture<BatchResult> loadAll(Collection<OptionProfile> profiles) {
+        return ProfileBatch.run(profiles, OptionProfile::load, batchExecutor(), settingBatchConcurrency);
+    }
+
+    /**
+     * Saves all given profiles on the {@link #batchExecutor()},
+     * with at most {@link #batchConcurrency()} at a time.
+     *
+     * @param profiles The profiles.
+     * @return The future result.
+     * @see #loadAll(Collection)
+     */
+    public CompletableFuture<BatchResult> saveAll(Collection<OptionProfile> profiles) {
+        return ProfileBatch.run(profiles, OptionProfile::save, batchExecutor(), settingBatchConcurrency);
+    }
+
     /**
      * Get a registered option profile by
      * name.
@@ -404,18 +906,13 @@ public class ConfigurationProvider {
                                         Path path,
                                         Consumer<OptionProfile> preCompose) {
         try {
-            Class<?> klass = instance.getClass();
-
-            String defaults = null;
-            if (klass.isAnnotationPresent(Defaults.class)) {
-                defaults = klass.getAnnotation(Defaults.class).resource();
-            }
+            SchemaTemplate template = getSchemaTemplate(instance.getClass());
 
             OptionProfile profile =
-                    newProfile(name, instance, defaults, path);
+                    newProfile(name, instance, template.defaultsResource(), path);
 
-            if (klass.isAnnotationPresent(Docs.class)) {
-                profile.schema().setComment(klass.getAnnotation(Docs.class).inLine());
+            if (template.docs() != null) {
+                profile.schema().setComment(template.docs());
             }
 
             if (preCompose != null)
@@ -476,7 +973,9 @@ public class ConfigurationProvider {
      * @return The context.
      */
     public Context newLoadContext(OptionProfile profile) {
-        return new Context(this, new ProfileLoadOperation(profile), profile.schema());
+        // stage the values to build the snapshot from
+        LoadStaging staging = settingSnapshots ? new LoadStaging() : null;
+        return new Context(this, new ProfileLoadOperation(profile, staging), profile.schema());
     }
 
     /**
@@ -514,8 +1013,24 @@ public class ConfigurationProvider {
 
         res.rawProvider = rawProvider;
         res.settingProcessAnnotations = settingProcessAnnotations;
+        res.settingCacheSchemaTemplates = settingCacheSchemaTemplates;
+        res.settingUseSchemaBinders = settingUseSchemaBinders;
+        res.settingMemoryOrder = settingMemoryOrder;
+        res.settingStreamingLoad = settingStreamingLoad;
+        res.settingReloadDebounce = settingReloadDebounce;
+        res.settingSnapshots = settingSnapshots;
+        res.settingParallelCompose = settingParallelCompose;
+        res.settingLazySections = settingLazySections;
+        res.settingBatchExecutor = settingBatchExecutor;
+        res.settingBatchConcurrency = settingBatchConcurrency;
+        res.settingAsyncSave = settingAsyncSave;
+        res.settingSaveDelay = settingSaveDelay;
+        res.settingSyncWrites = settingSyncWrites;
+        res.settingDirtyTracking = settingDirtyTracking;
+        res.settingSkipUnchangedLoads = settingSkipUnchangedLoads;
         res.schemaComposers = new ArrayList<>(schemaComposers);
         res.optionComposers = new ArrayList<>(optionComposers);
+        res.dynamicOptionComposers = dynamicOptionComposers;
         res.propertyBehaviourMap = new HashMap<>(propertyBehaviourMap);
         res.rawTransformers = new ArrayList<>(rawTransformers);
 
@@ -532,6 +1047,27 @@ public class ConfigurationProvider {
         return this;
     }
 
+    /**
+     * Check if a profile can be loaded by streaming
+     * in the given context, which requires the setting
+     * to be enabled, no raw transformers to be registered
+     * and a {@link StreamingRawProvider} which can stream.
+     *
+     * @param context The read context.
+     * @return True/false.
+     */
+    public boolean canStreamLoad(IOContext context) {
+        return settingStreamingLoad && rawTransformers.isEmpty() &&
+                rawProvider instanceof StreamingRawProvider streamingRawProvider &&
+                streamingRawProvider.canStream(context);
+    }
+
+    // whether emitted section nodes can be reused, which
+    // requires that they are never post-processed in place
+    boolean canCacheEmit() {
+        return settingDirtyTracking && rawTransformers.isEmpty();
+    }
+
     /**
      * Pre-processes the input data through
      * the raw transformer pipeline.
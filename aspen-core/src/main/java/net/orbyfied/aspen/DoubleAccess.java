@@ -0,0 +1,93 @@
+package net.orbyfied.aspen;
+
+import net.orbyfied.aspen.properties.DoubleProperty;
+
+/**
+ * A {@link PropertyAccess} for {@code double} properties,
+ * which can read and write without boxing.
+ */
+public interface DoubleAccess extends PropertyAccess<Double> {
+
+    /**
+     * Creates a placeholder access for the given
+     * property, see {@link PropertyAccess#future(Property)}.
+     *
+     * @param property The property.
+     * @return The future access instance.
+     */
+    static DoubleAccess future(DoubleProperty property) {
+        return new Future(property);
+    }
+
+    /**
+     * Creates a placeholder access which finds the
+     * property, see {@link PropertyAccess#find(String)}.
+     *
+     * @param path The property path.
+     * @return The future access instance.
+     */
+    static DoubleAccess find(String path) {
+        return new Future(path);
+    }
+
+    class Future extends PropertyAccess.TypedFuture<Double, DoubleAccess> implements DoubleAccess {
+        public Future(Property<?, ?> property) {
+            super(DoubleAccess.class, property, null);
+        }
+
+        public Future(String path) {
+            super(DoubleAccess.class, null, path);
+        }
+
+        @Override
+        public double getDouble() {
+            return typed().getDouble();
+        }
+
+        @Override
+        public void setDouble(double value) {
+            typed().setDouble(value);
+        }
+    }
+
+    static DoubleAccess constant(DoubleProperty property,
+                             ConfigurationProvider provider,
+                             Schema schema) {
+        return new Constant(property, provider, schema);
+    }
+
+    class Constant extends PropertyAccess.Constant<Double, DoubleProperty> implements DoubleAccess {
+        Constant(DoubleProperty property, ConfigurationProvider provider, Schema schema) {
+            super(property, provider, schema);
+        }
+
+        @Override
+        public double getDouble() {
+            return property.getDouble(context);
+        }
+
+        @Override
+        public void setDouble(double value) {
+            property.setDouble(context, value);
+        }
+    }
+
+    //////////////////////////////////////////
+
+    double getDouble();
+
+    void setDouble(double value);
+
+    @Override
+    default Double get() {
+        return getDouble();
+    }
+
+    @Override
+    default void set(Double value) {
+        if (value == null)
+            throw new IllegalArgumentException("can not set null to a primitive access");
+        setDouble(value);
+    }
+
+}
@@ -0,0 +1,474 @@
+package net.orbyfied.aspen;
+
+import net.orbyfied.aspen.context.PropertyContext;
+import net.orbyfied.aspen.util.Throwables;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.function.Supplier;
+
+/**
+ * An accessor which reads and writes a field
+ * on the instance of the source schema through
+ * a {@link VarHandle}, with the configured
+ * {@link MemoryOrder}.
+ *
+ * @param <T> The value type.
+ *
+ * @author orbyfied
+ */
+@SuppressWarnings("unchecked")
+public abstract class FieldAccessor<T> implements Accessor<T> {
+
+    /**
+     * Creates a var handle for the given field,
+     * with private access to the declaring class.
+     *
+     * @param field The field.
+     * @return The var handle.
+     */
+    public static VarHandle handleFor(Field field) {
+        try {
+            return MethodHandles
+                    .privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectVarHandle(field);
+        } catch (Exception e) {
+            Throwables.sneakyThrow(e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a var handle for the field with the
+     * given name and type, without reflecting it.
+     *
+     * @param owner The declaring class.
+     * @param name The field name.
+     * @param type The field type.
+     * @return The var handle.
+     */
+    public static VarHandle handleFor(Class<?> owner, String name, Class<?> type) {
+        try {
+            return MethodHandles
+                    .privateLookupIn(owner, MethodHandles.lookup())
+                    .findVarHandle(owner, name, type);
+        } catch (Exception e) {
+            Throwables.sneakyThrow(e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a new plain field accessor which reads
+     * and writes through a generated binder. The var
+     * handle is only resolved if another memory order
+     * is requested through {@link #withOrder(MemoryOrder)}.
+     *
+     * @param source The source schema.
+     * @param binder The binder.
+     * @param field The field index in the binder.
+     * @param handle The var handle supplier.
+     * @return The accessor.
+     */
+    public static <T> FieldAccessor<T> bound(Schema source,
+                                             SchemaBinder binder,
+                                             int field,
+                                             Supplier<VarHandle> handle) {
+        return new Bound<>(source, binder, field, handle);
+    }
+
+    /**
+     * Creates a new field accessor for the given
+     * handle with the given memory order.
+     *
+     * @param source The source schema.
+     * @param handle The field var handle.
+     * @param order The memory order.
+     * @return The accessor.
+     */
+    public static <T> FieldAccessor<T> of(Schema source,
+                                          VarHandle handle,
+                                          MemoryOrder order) {
+        // check for primitive fields
+        Class<?> varType = handle.varType();
+        if (varType.isPrimitive()) {
+            FieldAccessor<?> accessor;
+            if (varType == int.class) accessor = new OfInt(source, handle, order);
+            else if (varType == long.class) accessor = new OfLong(source, handle, order);
+            else if (varType == double.class) accessor = new OfDouble(source, handle, order);
+            else if (varType == boolean.class) accessor = new OfBoolean(source, handle, order);
+            else throw new IllegalArgumentException("unsupported primitive field type " + varType);
+            return (FieldAccessor<T>) accessor;
+        }
+
+        return switch (order) {
+            case PLAIN -> new Plain<>(source, handle);
+            case OPAQUE -> new Opaque<>(source, handle);
+            case ACQUIRE_RELEASE -> new AcquireRelease<>(source, handle);
+            case VOLATILE -> new Volatile<>(source, handle);
+        };
+    }
+
+    ////////////////////////////////////////
+
+    // the source schema
+    final Schema source;
+
+    // the field var handle
+    final VarHandle handle;
+
+    FieldAccessor(Schema source, VarHandle handle) {
+        this.source = source;
+        this.handle = handle;
+    }
+
+    /**
+     * Get the memory order used by
+     * this accessor.
+     */
+    public abstract MemoryOrder order();
+
+    /**
+     * Creates a copy of this accessor with
+     * the given memory order.
+     *
+     * @param order The memory order.
+     * @return The accessor.
+     */
+    public FieldAccessor<T> withOrder(MemoryOrder order) {
+        if (order == order())
+            return this;
+        return of(source, handle, order);
+    }
+
+    @Override
+    public boolean has(PropertyContext context) {
+        return true;
+    }
+
+    @Override
+    public boolean isAlwaysPresent() {
+        return true;
+    }
+
+    /* Implementations */
+
+    static final class Bound<T> extends FieldAccessor<T> {
+        // the binder and field index
+        final SchemaBinder binder;
+        final int field;
+
+        // the var handle supplier
+        final Supplier<VarHandle> handleSupplier;
+
+        Bound(Schema source, SchemaBinder binder, int field,
+              Supplier<VarHandle> handleSupplier) {
+            super(source, null);
+            this.binder = binder;
+            this.field = field;
+            this.handleSupplier = handleSupplier;
+        }
+
+        @Override
+        public MemoryOrder order() {
+            return MemoryOrder.PLAIN;
+        }
+
+        @Override
+        public FieldAccessor<T> withOrder(MemoryOrder order) {
+            if (order == MemoryOrder.PLAIN)
+                return this;
+            return of(source, handleSupplier.get(), order);
+        }
+
+        @Override
+        public T get(PropertyContext context) {
+            return (T) binder.get(source.instance, field);
+        }
+
+        @Override
+        public void register(PropertyContext context, T value) {
+            binder.set(source.instance, field, value);
+        }
+    }
+
+    static final class Plain<T> extends FieldAccessor<T> {
+        Plain(Schema source, VarHandle handle) {
+            super(source, handle);
+        }
+
+        @Override
+        public MemoryOrder order() {
+            return MemoryOrder.PLAIN;
+        }
+
+        @Override
+        public T get(PropertyContext context) {
+            return (T) handle.get(source.instance);
+        }
+
+        @Override
+        public void register(PropertyContext context, T value) {
+            handle.set(source.instance, value);
+        }
+    }
+
+    static final class Opaque<T> extends FieldAccessor<T> {
+        Opaque(Schema source, VarHandle handle) {
+            super(source, handle);
+        }
+
+        @Override
+        public MemoryOrder order() {
+            return MemoryOrder.OPAQUE;
+        }
+
+        @Override
+        public T get(PropertyContext context) {
+            return (T) handle.getOpaque(source.instance);
+        }
+
+        @Override
+        public void register(PropertyContext context, T value) {
+            handle.setOpaque(source.instance, value);
+        }
+    }
+
+    static final class AcquireRelease<T> extends FieldAccessor<T> {
+        AcquireRelease(Schema source, VarHandle handle) {
+            super(source, handle);
+        }
+
+        @Override
+        public MemoryOrder order() {
+            return MemoryOrder.ACQUIRE_RELEASE;
+        }
+
+        @Override
+        public T get(PropertyContext context) {
+            return (T) handle.getAcquire(source.instance);
+        }
+
+        @Override
+        public void register(PropertyContext context, T value) {
+            handle.setRelease(source.instance, value);
+        }
+    }
+
+    static final class Volatile<T> extends FieldAccessor<T> {
+        Volatile(Schema source, VarHandle handle) {
+            super(source, handle);
+        }
+
+        @Override
+        public MemoryOrder order() {
+            return MemoryOrder.VOLATILE;
+        }
+
+        @Override
+        public T get(PropertyContext context) {
+            return (T) handle.getVolatile(source.instance);
+        }
+
+        @Override
+        public void register(PropertyContext context, T value) {
+            handle.setVolatile(source.instance, value);
+        }
+    }
+
+    /* Primitive Implementations */
+
+    // the memory order of primitive accessors is
+    // selected per call, as specializing each one
+    // for every order would be a lot of classes
+
+    static final class OfInt extends FieldAccessor<Integer> implements Accessor.OfInt {
+        // the memory order
+        final MemoryOrder order;
+
+        OfInt(Schema source, VarHandle handle, MemoryOrder order) {
+            super(source, handle);
+            this.order = order;
+        }
+
+        @Override
+        public MemoryOrder order() {
+            return order;
+        }
+
+        @Override
+        public int getInt(PropertyContext context) {
+            final Object instance = source.instance;
+            return switch (order) {
+                case PLAIN -> (int) handle.get(instance);
+                case OPAQUE -> (int) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE -> (int) handle.getAcquire(instance);
+                case VOLATILE -> (int) handle.getVolatile(instance);
+            };
+        }
+
+        @Override
+        public void registerInt(PropertyContext context, int value) {
+            final Object instance = source.instance;
+            switch (order) {
+                case PLAIN -> handle.set(instance, value);
+                case OPAQUE -> handle.setOpaque(instance, value);
+                case ACQUIRE_RELEASE -> handle.setRelease(instance, value);
+                case VOLATILE -> handle.setVolatile(instance, value);
+            }
+        }
+
+        @Override
+        public Integer get(PropertyContext context) {
+            return getInt(context);
+        }
+
+        @Override
+        public void register(PropertyContext context, Integer value) {
+            Accessor.OfInt.super.register(context, value);
+        }
+    }
+
+    static final class OfLong extends FieldAccessor<Long> implements Accessor.OfLong {
+        // the memory order
+        final MemoryOrder order;
+
+        OfLong(Schema source, VarHandle handle, MemoryOrder order) {
+            super(source, handle);
+            this.order = order;
+        }
+
+        @Override
+        public MemoryOrder order() {
+            return order;
+        }
+
+        @Override
+        public long getLong(PropertyContext context) {
+            final Object instance = source.instance;
+            return switch (order) {
+                case PLAIN -> (long) handle.get(instance);
+                case OPAQUE -> (long) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE -> (long) handle.getAcquire(instance);
+                case VOLATILE -> (long) handle.getVolatile(instance);
+            };
+        }
+
+        @Override
+        public void registerLong(PropertyContext context, long value) {
+            final Object instance = source.instance;
+            switch (order) {
+                case PLAIN -> handle.set(instance, value);
+                case OPAQUE -> handle.setOpaque(instance, value);
+                case ACQUIRE_RELEASE -> handle.setRelease(instance, value);
+                case VOLATILE -> handle.setVolatile(instance, value);
+            }
+        }
+
+        @Override
+        public Long get(PropertyContext context) {
+            return getLong(context);
+        }
+
+        @Override
+        public void register(PropertyContext context, Long value) {
+            Accessor.OfLong.super.register(context, value);
+        }
+    }
+
+    static final class OfDouble extends FieldAccessor<Double> implements Accessor.OfDouble {
+        // the memory order
+        final MemoryOrder order;
+
+        OfDouble(Schema source, VarHandle handle, MemoryOrder order) {
+            super(source, handle);
+            this.order = order;
+        }
+
+        @Override
+        public MemoryOrder order() {
+            return order;
+        }
+
+        @Override
+        public double getDouble(PropertyContext context) {
+            final Object instance = source.instance;
+            return switch (order) {
+                case PLAIN -> (double) handle.get(instance);
+                case OPAQUE -> (double) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE -> (double) handle.getAcquire(instance);
+                case VOLATILE -> (double) handle.getVolatile(instance);
+            };
+        }
+
+        @Override
+        public void registerDouble(PropertyContext context, double value) {
+            final Object instance = source.instance;
+            switch (order) {
+                case PLAIN -> handle.set(instance, value);
+                case OPAQUE -> handle.setOpaque(instance, value);
+                case ACQUIRE_RELEASE -> handle.setRelease(instance, value);
+                case VOLATILE -> handle.setVolatile(instance, value);
+            }
+        }
+
+        @Override
+        public Double get(PropertyContext context) {
+            return getDouble(context);
+        }
+
+        @Override
+        public void register(PropertyContext context, Double value) {
+            Accessor.OfDouble.super.register(context, value);
+        }
+    }
+
+    static final class OfBoolean extends FieldAccessor<Boolean> implements Accessor.OfBoolean {
+        // the memory order
+        final MemoryOrder order;
+
+        OfBoolean(Schema source, VarHandle handle, MemoryOrder order) {
+            super(source, handle);
+            this.order = order;
+        }
+
+        @Override
+        public MemoryOrder order() {
+            return order;
+        }
+
+        @Override
+        public boolean getBoolean(PropertyContext context) {
+            final Object instance = source.instance;
+            return switch (order) {
+                case PLAIN -> (boolean) handle.get(instance);
+                case OPAQUE -> (boolean) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE -> (boolean) handle.getAcquire(instance);
+                case VOLATILE -> (boolean) handle.getVolatile(instance);
+            };
+        }
+
+        @Override
+        public void registerBoolean(PropertyContext context, boolean value) {
+            final Object instance = source.instance;
+            switch (order) {
+                case PLAIN -> handle.set(instance, value);
+                case OPAQUE -> handle.setOpaque(instance, value);
+                case ACQUIRE_RELEASE -> handle.setRelease(instance, value);
+                case VOLATILE -> handle.setVolatile(instance, value);
+            }
+        }
+
+        @Override
+        public Boolean get(PropertyContext context) {
+            return getBoolean(context);
+        }
+
+        @Override
+        public void register(PropertyContext context, Boolean value) {
+            Accessor.OfBoolean.super.register(context, value);
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package net.orbyfied.aspen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Identifies the content of a file by its size,
+ * modification time and a checksum of the content.
+ *
+ * @param size The size in bytes.
+ * @param modified The modification time in milliseconds.
+ * @param hash The CRC32C checksum of the content.
+ */
+record FileFingerprint(long size, long modified, long hash) {
+
+    /**
+     * Creates the fingerprint of the given content
+     * read from a file with the given attributes.
+     *
+     * @param attributes The file attributes.
+     * @param content The content.
+     * @return The fingerprint.
+     */
+    static FileFingerprint of(BasicFileAttributes attributes, byte[] content) {
+        return new FileFingerprint(content.length, attributes.lastModifiedTime().toMillis(), hash(content));
+    }
+
+    static long hash(byte[] content) {
+        CRC32C crc = new CRC32C();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    /**
+     * Check whether the given attributes match the size
+     * and modification time of this fingerprint, if so the
+     * content has to be compared to be sure.
+     *
+     * @param attributes The attributes.
+     * @return True if they match.
+     */
+    boolean matches(BasicFileAttributes attributes) {
+        return size == attributes.size() && modified == attributes.lastModifiedTime().toMillis();
+    }
+
+    /**
+     * Computes the fingerprint of the content read
+     * through it while the content is parsed, so the
+     * file does not have to be read into memory.
+     */
+    static final class Tracker extends CheckedInputStream {
+        // the amount of bytes read
+        long size;
+
+        Tracker(InputStream in) {
+            super(in, new CRC32C());
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1)
+                size++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            int n = super.read(buf, off, len);
+            if (n > 0)
+                size += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // read the rest the parser did not need
+            // so the checksum covers the whole file
+            try {
+                transferTo(OutputStream.nullOutputStream());
+            } finally {
+                super.close();
+            }
+        }
+
+        /**
+         * Creates the fingerprint of the content read
+         * from a file with the given attributes.
+         *
+         * @param attributes The file attributes.
+         * @return The fingerprint.
+         */
+        FileFingerprint fingerprint(BasicFileAttributes attributes) {
+            return new FileFingerprint(size, attributes.lastModifiedTime().toMillis(), getChecksum().getValue());
+        }
+    }
+
+}
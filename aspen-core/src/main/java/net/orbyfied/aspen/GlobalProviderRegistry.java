@@ -0,0 +1,175 @@
+package net.orbyfied.aspen;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * The registry of global configuration providers.
+ *
+ * Reads are lock-free: the registrations are held in an
+ * immutable state which is replaced on every registration,
+ * and lookups are cached per class in a {@link ClassValue},
+ * which does not keep classes or their loaders alive. Package
+ * registrations are resolved through a trie of package segments
+ * instead of testing every predicate.
+ *
+ * If multiple registrations match a class, the one
+ * registered first wins.
+ *
+ * @author orbyfied
+ */
+final class GlobalProviderRegistry {
+
+    /**
+     * A registration with a predicate.
+     *
+     * @param ordinal The registration order.
+     * @param predicate The predicate.
+     * @param provider The provider.
+     */
+    record PredicateEntry(int ordinal, Predicate<Class<?>> predicate, ConfigurationProvider provider) { }
+
+    /**
+     * A node in the package trie.
+     */
+    static final class PackageNode {
+
+        // the child packages by segment
+        final Map<String, PackageNode> children = new HashMap<>();
+
+        // the registration for this package,
+        // ordinal -1 if none
+        int ordinal = -1;
+        ConfigurationProvider provider;
+
+        PackageNode copy() {
+            PackageNode node = new PackageNode();
+            node.ordinal = ordinal;
+            node.provider = provider;
+            children.forEach((segment, child) -> node.children.put(segment, child.copy()));
+            return node;
+        }
+
+    }
+
+    /**
+     * The immutable registration state.
+     *
+     * @param packages The root of the package trie.
+     * @param predicates The predicate registrations in order.
+     * @param count The amount of registrations.
+     */
+    record State(PackageNode packages, List<PredicateEntry> predicates, int count) { }
+
+    ///////////////////////////////////////
+
+    // the current state
+    private volatile State state = new State(new PackageNode(), List.of(), 0);
+
+    // the per class lookup cache,
+    // replaced on every registration
+    private volatile ClassValue<Optional<ConfigurationProvider>> cache = newCache();
+
+    private ClassValue<Optional<ConfigurationProvider>> newCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Optional<ConfigurationProvider> computeValue(Class<?> type) {
+                return Optional.ofNullable(resolve(state, type));
+            }
+        };
+    }
+
+    /**
+     * Register a provider for all classes
+     * matching the given predicate.
+     *
+     * @param predicate The predicate.
+     * @param provider The provider.
+     */
+    synchronized void register(Predicate<Class<?>> predicate, ConfigurationProvider provider) {
+        State s = state;
+        List<PredicateEntry> predicates = new ArrayList<>(s.predicates());
+        predicates.add(new PredicateEntry(s.count(), predicate, provider));
+        publish(new State(s.packages(), List.copyOf(predicates), s.count() + 1));
+    }
+
+    /**
+     * Register a provider for all classes in the
+     * given package and its subpackages.
+     *
+     * @param packageName The package name, optionally ending with a dot.
+     * @param provider The provider.
+     */
+    synchronized void registerPackage(String packageName, ConfigurationProvider provider) {
+        State s = state;
+        PackageNode root = s.packages().copy();
+        PackageNode node = root;
+        for (String segment : packageName.split("\\.")) {
+            if (segment.isEmpty())
+                continue;
+            node = node.children.computeIfAbsent(segment, __ -> new PackageNode());
+        }
+
+        // keep the first registration
+        if (node.ordinal == -1) {
+            node.ordinal = s.count();
+            node.provider = provider;
+        }
+
+        publish(new State(root, s.predicates(), s.count() + 1));
+    }
+
+    private void publish(State s) {
+        state = s;
+        cache = newCache();
+    }
+
+    /**
+     * Get the provider for the given class.
+     *
+     * @param klass The class.
+     * @return The provider or null if absent.
+     */
+    ConfigurationProvider get(Class<?> klass) {
+        return cache.get(klass).orElse(null);
+    }
+
+    // resolve the provider for the given
+    // class from the given state
+    static ConfigurationProvider resolve(State s, Class<?> klass) {
+        int bestOrdinal = Integer.MAX_VALUE;
+        ConfigurationProvider best = null;
+
+        // walk the package segments of the class name
+        String name = klass.getName();
+        PackageNode node = s.packages();
+        int start = 0;
+        int dot;
+        while ((dot = name.indexOf('.', start)) != -1) {
+            node = node.children.get(name.substring(start, dot));
+            if (node == null)
+                break;
+            if (node.ordinal != -1 && node.ordinal < bestOrdinal) {
+                bestOrdinal = node.ordinal;
+                best = node.provider;
+            }
+
+            start = dot + 1;
+        }
+
+        // predicates registered earlier take precedence
+        for (PredicateEntry entry : s.predicates()) {
+            if (entry.ordinal() >= bestOrdinal)
+                break;
+            if (entry.predicate().test(klass))
+                return entry.provider();
+        }
+
+        return best;
+    }
+
+}
@@ -0,0 +1,93 @@
+package net.orbyfied.aspen;
+
+import net.orbyfied.aspen.properties.IntProperty;
+
+/**
+ * A {@link PropertyAccess} for {@code int} properties,
+ * which can read and write without boxing.
+ */
+public interface IntAccess extends PropertyAccess<Integer> {
+
+    /**
+     * Creates a placeholder access for the given
+     * property, see {@link PropertyAccess#future(Property)}.
+     *
+     * @param property The property.
+     * @return The future access instance.
+     */
+    static IntAccess future(IntProperty property) {
+        return new Future(property);
+    }
+
+    /**
+     * Creates a placeholder access which finds the
+     * property, see {@link PropertyAccess#find(String)}.
+     *
+     * @param path The property path.
+     * @return The future access instance.
+     */
+    static IntAccess find(String path) {
+        return new Future(path);
+    }
+
+    class Future extends PropertyAccess.TypedFuture<Integer, IntAccess> implements IntAccess {
+        public Future(Property<?, ?> property) {
+            super(IntAccess.class, property, null);
+        }
+
+        public Future(String path) {
+            super(IntAccess.class, null, path);
+        }
+
+        @Override
+        public int getInt() {
+            return typed().getInt();
+        }
+
+        @Override
+        public void setInt(int value) {
+            typed().setInt(value);
+        }
+    }
+
+    static IntAccess constant(IntProperty property,
+                             ConfigurationProvider provider,
+                             Schema schema) {
+        return new Constant(property, provider, schema);
+    }
+
+    class Constant extends PropertyAccess.Constant<Integer, IntProperty> implements IntAccess {
+        Constant(IntProperty property, ConfigurationProvider provider, Schema schema) {
+            super(property, provider, schema);
+        }
+
+        @Override
+        public int getInt() {
+            return property.getInt(context);
+        }
+
+        @Override
+        public void setInt(int value) {
+            property.setInt(context, value);
+        }
+    }
+
+    //////////////////////////////////////////
+
+    int getInt();
+
+    void setInt(int value);
+
+    @Override
+    default Integer get() {
+        return getInt();
+    }
+
+    @Override
+    default void set(Integer value) {
+        if (value == null)
+            throw new IllegalArgumentException("can not set null to a primitive access");
+        setInt(value);
+    }
+
+}
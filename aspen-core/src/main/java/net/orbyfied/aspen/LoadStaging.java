@@ -0,0 +1,103 @@
+package net.orbyfied.aspen;
+
+import net.orbyfied.aspen.context.ProfileLoadOperation;
+import net.orbyfied.aspen.context.PropertyContext;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The values of a load which are staged instead of
+ * being written to the properties right away, so the
+ * {@link ConfigSnapshot} of the load can be built from
+ * them before any field changes. The values are written
+ * by {@link OptionSchema#publish(LoadStaging)} once the whole load
+ * succeeded, a failed load changes no values.
+ *
+ * Loads are staged while snapshots are enabled,
+ * see {@link ConfigurationProvider#snapshots(boolean)}.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public final class LoadStaging {
+
+    /**
+     * Get the staging of the load executed
+     * in the given context.
+     *
+     * @param context The context.
+     * @return The staging or null if values are written right away.
+     */
+    public static LoadStaging of(Context context) {
+        return context != null && context.operation instanceof ProfileLoadOperation operation ?
+                operation.staging() : null;
+    }
+
+    ///////////////////////////////////////
+
+    // the staged properties, the contexts they
+    // were loaded in and the values in load order
+    final List<Property> properties = new ArrayList<>();
+    final List<PropertyContext> contexts = new ArrayList<>();
+    final List<Object> values = new ArrayList<>();
+
+    // the value indices by property
+    final Map<Property, Integer> indices = new IdentityHashMap<>();
+
+    LoadStaging() { }
+
+    // stage the loaded value of the given property,
+    // replacing a value staged before
+    void stage(Property property, PropertyContext context, Object value) {
+        Integer index = indices.get(property);
+        if (index != null) {
+            contexts.set(index, context);
+            values.set(index, value);
+            return;
+        }
+
+        indices.put(property, properties.size());
+        properties.add(property);
+        contexts.add(context);
+        values.add(value);
+    }
+
+    /**
+     * Check whether a value was staged
+     * for the given property.
+     *
+     * @param property The property.
+     * @return True/false.
+     */
+    public boolean has(Property property) {
+        return indices.containsKey(property);
+    }
+
+    /**
+     * Get the value staged for the given property.
+     *
+     * @param property The property.
+     * @return The value or null if absent.
+     */
+    public Object get(Property property) {
+        Integer index = indices.get(property);
+        return index != null ? values.get(index) : null;
+    }
+
+    /**
+     * Get the amount of staged values.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    // write the staged values to the properties
+    void apply() {
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            property.actualAccessor.register(contexts.get(i).property(property), values.get(i));
+        }
+    }
+
+}
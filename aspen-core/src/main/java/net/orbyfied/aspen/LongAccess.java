@@ -0,0 +1,93 @@
+package net.orbyfied.aspen;
+
+import net.orbyfied.aspen.properties.LongProperty;
+
+/**
+ * A {@link PropertyAccess} for {@code long} properties,
+ * which can read and write without boxing.
+ */
+public interface LongAccess extends PropertyAccess<Long> {
+
+    /**
+     * Creates a placeholder access for the given
+     * property, see {@link PropertyAccess#future(Property)}.
+     *
+     * @param property The property.
+     * @return The future access instance.
+     */
+    static LongAccess future(LongProperty property) {
+        return new Future(property);
+    }
+
+    /**
+     * Creates a placeholder access which finds the
+     * property, see {@link PropertyAccess#find(String)}.
+     *
+     * @param path The property path.
+     * @return The future access instance.
+     */
+    static LongAccess find(String path) {
+        return new Future(path);
+    }
+
+    class Future extends PropertyAccess.TypedFuture<Long, LongAccess> implements LongAccess {
+        public Future(Property<?, ?> property) {
+            super(LongAccess.class, property, null);
+        }
+
+        public Future(String path) {
+            super(LongAccess.class, null, path);
+        }
+
+        @Override
+        public long getLong() {
+            return typed().getLong();
+        }
+
+        @Override
+        public void setLong(long value) {
+            typed().setLong(value);
+        }
+    }
+
+    static LongAccess constant(LongProperty property,
+                             ConfigurationProvider provider,
+                             Schema schema) {
+        return new Constant(property, provider, schema);
+    }
+
+    class Constant extends PropertyAccess.Constant<Long, LongProperty> implements LongAccess {
+        Constant(LongProperty property, ConfigurationProvider provider, Schema schema) {
+            super(property, provider, schema);
+        }
+
+        @Override
+        public long getLong() {
+            return property.getLong(context);
+        }
+
+        @Override
+        public void setLong(long value) {
+            property.setLong(context, value);
+        }
+    }
+
+    //////////////////////////////////////////
+
+    long getLong();
+
+    void setLong(long value);
+
+    @Override
+    default Long get() {
+        return getLong();
+    }
+
+    @Override
+    default void set(Long value) {
+        if (value == null)
+            throw new IllegalArgumentException("can not set null to a primitive access");
+        setLong(value);
+    }
+
+}
@@ -0,0 +1,45 @@
+package net.orbyfied.aspen;
+
+/**
+ * The memory ordering semantics used by
+ * field accessors when reading and writing
+ * option values.
+ *
+ * By default values are read with acquire and
+ * written with release semantics, so other threads
+ * observe the values written by a load without further
+ * synchronization. With {@link #PLAIN} the visibility
+ * of a load is only ensured by the single release store
+ * at the end of {@link OptionProfile#load()}, which readers
+ * have to pair with {@link OptionSchema#generation()}.
+ *
+ * @author orbyfied
+ */
+public enum MemoryOrder {
+
+    /**
+     * Plain reads and writes, no ordering guarantees
+     * on their own, readers have to call {@link OptionSchema#generation()}
+     * first to observe the values of the last load.
+     */
+    PLAIN,
+
+    /**
+     * Opaque reads and writes, values are
+     * eventually visible to other threads but
+     * are not ordered with other accesses.
+     */
+    OPAQUE,
+
+    /**
+     * Acquire reads and release writes,
+     * the default.
+     */
+    ACQUIRE_RELEASE,
+
+    /**
+     * Fully volatile reads and writes.
+     */
+    VOLATILE
+
+}
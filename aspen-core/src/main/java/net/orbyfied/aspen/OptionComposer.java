@@ -65,6 +65,11 @@ public interface OptionComposer {
                 return context.element().isAnnotationPresent(annotation);
             }
 
+            @Override
+            public boolean hasStaticMatch() {
+                return true;
+            }
+
             @Override
             public boolean open(OptionComposeContext context) throws Exception {
                 return false;
@@ -91,6 +96,11 @@ public interface OptionComposer {
                 return type.isAssignableFrom(context.type());
             }
 
+            @Override
+            public boolean hasStaticMatch() {
+                return true;
+            }
+
             @Override
             public boolean open(OptionComposeContext context) throws Exception {
                 return opener.test(context);
@@ -135,6 +145,19 @@ public interface OptionComposer {
      */
     boolean matches(OptionComposeContext context);
 
+    /**
+     * Whether {@link #matches(OptionComposeContext)} only
+     * depends on the option type and the types of the annotations
+     * present on the element. The result for static composers
+     * is cached by the provider for every combination of those,
+     * see {@link ConfigurationProvider#findOptionComposerPipeline(OptionComposeContext)}.
+     *
+     * @return True/false.
+     */
+    default boolean hasStaticMatch() {
+        return false;
+    }
+
     /**
      * Creates a new property builder for
      * the given type and name in the provided
@@ -3,15 +3,25 @@ package net.orbyfied.aspen;
 import net.orbyfied.aspen.context.IOContext;
 import net.orbyfied.aspen.exception.AspenException;
 import net.orbyfied.aspen.exception.ConfigurationLoadException;
+import net.orbyfied.aspen.raw.exception.RawExceptions;
 import net.orbyfied.aspen.raw.nodes.RawObjectNode;
 import net.orbyfied.aspen.raw.nodes.RawNode;
 import net.orbyfied.aspen.raw.nodes.RawUndefinedNode;
-import net.orbyfied.aspen.util.Throwables;
+import net.orbyfied.aspen.raw.stream.RawReader;
+import net.orbyfied.aspen.raw.stream.RawToken;
+import net.orbyfied.aspen.raw.stream.StreamingRawProvider;
+import net.orbyfied.aspen.raw.stream.UnstreamableException;
+import net.orbyfied.aspen.util.AtomicFiles;
 
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.logging.Logger;
 
 /**
@@ -29,24 +39,6 @@ public record OptionProfile(ConfigurationProvider provider,
 
     static final Logger LOGGER = Logger.getLogger("OptionProfile");
 
-    static Path createIfAbsent(Path path) {
-        try {
-            if (!Files.exists(path)) {
-                Path parent = path.getParent();
-                if (!Files.exists(parent)) {
-                    Files.createDirectories(parent);
-                }
-
-                Files.createFile(path);
-            }
-
-            return path;
-        } catch (Exception e) {
-            Throwables.sneakyThrow(e);
-            return path;
-        }
-    }
-
     ////////////////////////////////////
 
     OptionProfile(ConfigurationProvider provider,
@@ -55,6 +47,7 @@ public record OptionProfile(ConfigurationProvider provider,
                   Path file,
                   Object instance) throws Exception {
         this(provider, name, defaults, file, new OptionSchema(provider, instance));
+        schema.profile = this;
     }
 
     public OptionProfile compose() throws Exception {
@@ -69,30 +62,85 @@ public record OptionProfile(ConfigurationProvider provider,
         return schema.instance;
     }
 
+    /**
+     * Get the last published snapshot of the values.
+     *
+     * @see OptionSchema#snapshot()
+     */
+    public ConfigSnapshot snapshot() {
+        return schema.snapshot();
+    }
+
     /**
      * Load the options from the persistent
      * storage file.
      *
+     * If skipping unchanged loads is enabled, the file is
+     * not parsed again when it has not changed since the
+     * last load, see {@link ConfigurationProvider#skipUnchangedLoads(boolean)}.
+     *
      * @return This.
      * @throws IllegalStateException If an error occurs.
      */
     public OptionProfile load() {
+        return load(false);
+    }
+
+    /**
+     * Load the options from the persistent
+     * storage file.
+     *
+     * @param force Whether to load the file even if
+     *              it has not changed since the last load.
+     * @return This.
+     * @throws IllegalStateException If an error occurs.
+     */
+    public OptionProfile load(boolean force) {
         if (!Files.exists(file)) // skip loading if the file is absent
             return this;
 
-        try (FileReader reader = new FileReader(file.toFile())) {
-            // compose node
-            IOContext ioContext = provider.newReadContext(this, file.getFileName().toString());
-            RawNode node = provider.rawProvider().compose(ioContext, reader);
-            node = provider.preProcessRaw(node);
-            if (node instanceof RawUndefinedNode)
-                return this;
-            RawObjectNode mapNode = node.expect(RawObjectNode.class);
+        try {
+            // skip the file if it is unchanged, reading and
+            // comparing the content only if the attributes match
+            final boolean skipUnchanged = provider.skipUnchangedLoads();
+            BasicFileAttributes attributes = null;
+            byte[] content = null;
+            if (skipUnchanged) {
+                attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                FileFingerprint last = schema.loadedFingerprint;
+                if (!force && last != null && last.matches(attributes)) {
+                    content = Files.readAllBytes(file);
+                    if (last.hash() == FileFingerprint.hash(content)) {
+                        schema.skippedLoads.increment();
+                        provider.skippedLoads.increment();
+                        return this;
+                    }
+                }
+            }
 
-            // load schema
+            IOContext ioContext = provider.newReadContext(this, file.getFileName().toString());
             Context context = provider.newLoadContext(this);
-            schema.load(context, mapNode);
 
+            // stream the file into the schema if possible,
+            // otherwise compose the node tree first
+            LoadSource source = new LoadSource(file, content, skipUnchanged);
+            Boolean loaded = null;
+            if (provider.canStreamLoad(ioContext))
+                loaded = loadStreaming(ioContext, context, source);
+            if (loaded == null)
+                loaded = loadTree(ioContext, context, source);
+
+            // publish the loaded values
+            if (loaded)
+                schema.publish(LoadStaging.of(context));
+
+            // the reload baseline is stale now
+            ReloadManager reloadManager = provider.reloadManager;
+            if (reloadManager != null)
+                reloadManager.invalidate(this);
+
+            if (skipUnchanged)
+                schema.loadedFingerprint = source.fingerprint(attributes);
             return this;
         } catch (Exception e) {
             if (e instanceof AspenException aspenException)
@@ -101,30 +149,174 @@ public record OptionProfile(ConfigurationProvider provider,
         }
     }
 
+    /**
+     * Get the amount of loads of this profile which were
+     * skipped because the file was unchanged.
+     *
+     * @return The count.
+     */
+    public long skippedLoads() {
+        return schema.skippedLoads.sum();
+    }
+
+    // the source of a load, the content already read for
+    // the unchanged check or otherwise the file itself
+    private static final class LoadSource {
+        final Path file;
+        final byte[] content;
+        // whether to track the fingerprint of the file
+        final boolean track;
+
+        // the tracker of the last opened reader
+        FileFingerprint.Tracker tracker;
+
+        LoadSource(Path file, byte[] content, boolean track) {
+            this.file = file;
+            this.content = content;
+            this.track = track;
+        }
+
+        // open a reader over the content, streaming
+        // from the file if it was not read yet
+        Reader open() throws IOException {
+            if (content != null)
+                return new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8);
+            if (!track)
+                return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+            tracker = new FileFingerprint.Tracker(Files.newInputStream(file));
+            return new BufferedReader(new InputStreamReader(tracker, StandardCharsets.UTF_8));
+        }
+
+        // get the fingerprint of the loaded content
+        FileFingerprint fingerprint(BasicFileAttributes attributes) {
+            return content != null ? FileFingerprint.of(attributes, content) : tracker.fingerprint(attributes);
+        }
+    }
+
+    // load the file by composing a node tree,
+    // returns whether any values were loaded
+    private boolean loadTree(IOContext ioContext, Context context, LoadSource source) throws Exception {
+        RawNode node;
+        try (Reader reader = source.open()) {
+            node = readTree(ioContext, reader);
+        }
+
+        if (node instanceof RawUndefinedNode)
+            return false;
+        RawObjectNode mapNode = node.expect(RawObjectNode.class);
+
+        // load schema
+        schema.load(context, mapNode);
+        return true;
+    }
+
+    // compose and pre-process the node
+    // tree of the file
+    RawNode readTree(IOContext ioContext) throws Exception {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return readTree(ioContext, reader);
+        }
+    }
+
+    // compose and pre-process the node
+    // tree read from the given reader
+    private RawNode readTree(IOContext ioContext, Reader reader) throws Exception {
+        RawNode node = provider.rawProvider().compose(ioContext, reader);
+        return provider.preProcessRaw(node);
+    }
+
+    // load the file by streaming it into the schema, returns
+    // whether any values were loaded or null if the file has
+    // to be loaded as a tree instead
+    private Boolean loadStreaming(IOContext ioContext, Context context, LoadSource source) throws Exception {
+        StreamingRawProvider rawProvider = (StreamingRawProvider) provider.rawProvider();
+        try (RawReader reader = rawProvider.openReader(ioContext, source.open())) {
+            if (reader.peek() == RawToken.END_DOCUMENT)
+                return false;
+            if (reader.peek() != RawToken.START_OBJECT)
+                RawExceptions.failUnexpectedNode("expected object, got " + reader.peek());
+
+            // load schema
+            schema.load(context, reader);
+            return true;
+        } catch (UnstreamableException e) {
+            return null;
+        }
+    }
+
     /**
      * Saves the options to the persistent
      * storage file.
      *
+     * With dirty tracking enabled, profiles which are
+     * not {@link #isDirty()} are not written again.
+     *
      * @return This.
      * @throws IllegalStateException If an error occurs.
      */
     public OptionProfile save() {
-        try (FileWriter writer = new FileWriter(createIfAbsent(file).toFile())) {
+        // skip profiles unchanged since the last save
+        if (!isDirty() && Files.exists(file))
+            return this;
+
+        try {
             // emit to node tree
             Context context = provider.newEmitContext(this);
             RawNode node = schema.emit(context);
-            node = provider.postProcessRaw(node);
+            final RawNode result = provider.postProcessRaw(node);
 
-            // save node tree
+            // save node tree, replacing the
+            // file only once fully written
             IOContext ioContext = provider.newWriteContext(this, file.getFileName().toString());
-            provider.rawProvider().write(ioContext, node, writer);
+            AtomicFiles.write(file, provider.syncWrites(), writer ->
+                    provider.rawProvider().write(ioContext, result, writer));
 
             return this;
         } catch (Exception e) {
+            // the file was not written
+            schema.markDirty();
+
             if (e instanceof AspenException aspenException)
                 throw aspenException;
             throw new IllegalStateException("Profile '" + name + "' save failed file(" + file + ")", e);
         }
     }
 
+    /**
+     * Check whether this profile has to be saved, which is
+     * always true if dirty tracking is disabled.
+     *
+     * @return True if dirty.
+     * @see ConfigurationProvider#dirtyTracking(boolean)
+     */
+    public boolean isDirty() {
+        return schema.isDirty();
+    }
+
+    /**
+     * Marks this profile dirty so it is written in the
+     * background by the {@link SaveManager}, coalescing
+     * with other pending changes.
+     *
+     * @return This.
+     */
+    public OptionProfile saveAsync() {
+        provider.saveManager().markDirty(this);
+        return this;
+    }
+
+    /**
+     * Writes this profile now if an asynchronous
+     * save is pending, and waits for it.
+     *
+     * @return This.
+     * @see SaveManager#flush(OptionProfile)
+     */
+    public OptionProfile flush() {
+        SaveManager manager = provider.saveManager;
+        if (manager != null)
+            manager.flush(this);
+        return this;
+    }
+
 }
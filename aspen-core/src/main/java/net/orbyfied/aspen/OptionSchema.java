@@ -1,16 +1,17 @@
 package net.orbyfied.aspen;
 
-import net.orbyfied.aspen.annotation.Options;
+import net.orbyfied.aspen.context.ComposeContext;
 import net.orbyfied.aspen.raw.nodes.RawObjectNode;
 import net.orbyfied.aspen.raw.nodes.RawNode;
-import net.orbyfied.aspen.util.UnsafeUtil;
-import sun.misc.Unsafe;
+import net.orbyfied.aspen.raw.source.NodeSource;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
 /**
@@ -21,7 +22,17 @@ import java.util.logging.Logger;
 public class OptionSchema extends Schema {
 
     static final Logger LOGGER = Logger.getLogger("OptionSchema");
-    static final Unsafe unsafe = UnsafeUtil.getUnsafe();
+
+    static final VarHandle GENERATION;
+
+    static {
+        try {
+            GENERATION = MethodHandles.lookup()
+                    .findVarHandle(OptionSchema.class, "generation", long.class);
+        } catch (Exception e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     ///////////////////////////////////////
 
@@ -35,10 +46,29 @@ public class OptionSchema extends Schema {
     // the child option schema's
     protected final List<OptionSchema> providedChildren = new ArrayList<>();
 
+    // the amount of times values have been published,
+    // written with release semantics, see publish()
+    private long generation;
+
+    // the last published snapshot, if enabled
+    private volatile ConfigSnapshot snapshot;
+
+    // the profile of this schema, if it is the root
+    OptionProfile profile;
+
+    // the fingerprint of the file last loaded into this
+    // schema, dropped when the schema is marked dirty
+    volatile FileFingerprint loadedFingerprint;
+
+    // the amount of loads skipped because
+    // the file was unchanged
+    final LongAdder skippedLoads = new LongAdder();
+
     public OptionSchema(OptionSchema source,
                         Object instance) {
         super(source.provider, null, "", instance);
         this.source = source;
+        this.memoryOrder = source.memoryOrder;
     }
 
     public OptionSchema(ConfigurationProvider provider,
@@ -56,34 +86,115 @@ public class OptionSchema extends Schema {
     @Override
     public OptionSchema compose(ConfigurationProvider provider) throws Exception {
         super.compose(provider);
+        return this;
+    }
+
+    // composes the option children after this schema,
+    // in parallel if enabled, the post-compose tasks of the
+    // children are run in declaration order once all are done
+    @Override
+    protected ComposeContext composeDeferred(ConfigurationProvider provider) throws Exception {
+        ComposeContext context = super.composeDeferred(provider);
+
+        List<OptionSchema> children = new ArrayList<>();
+        for (SchemaTemplate.Slot slot : provider.getSchemaTemplate(klass).slots) {
+            if (slot.kind != SchemaTemplate.SlotKind.OPTIONS) continue;
 
-        for (Field field : klass.getDeclaredFields()) {
-            if (Modifier.isStatic(field.getModifiers())) continue;
-            field.setAccessible(true);
-
-            {
-                Options desc = field.getAnnotation(Options.class);
-                if (desc != null) {
-                    // get or create instance
-                    Object chInstance = field.get(this.instance);
-                    if (chInstance == null) {
-                        Constructor<?> constructor = field.getType()
-                                .getDeclaredConstructor();
-                        constructor.setAccessible(true);
-                        chInstance = constructor.newInstance();
-                        field.set(this.instance, chInstance);
-                    }
-
-                    OptionSchema schema = new OptionSchema(this, chInstance);
-                    schema.compose(provider);
-                    providedChildren.add(schema);
-
-                    continue;
-                }
-            }
+            // get or create instance
+            Object chInstance = slot.getOrCreate(this.instance);
+            children.add(new OptionSchema(this, chInstance));
         }
 
-        return this;
+        if (provider.parallelCompose() && children.size() > 1) {
+            List<ForkJoinTask<ComposeContext>> tasks = new ArrayList<>(children.size());
+            for (OptionSchema schema : children)
+                tasks.add(forkCompose(schema, provider));
+            // join all before running any post task,
+            // they may read the sibling schemas
+            List<ComposeContext> contexts = new ArrayList<>(tasks.size());
+            for (ForkJoinTask<ComposeContext> task : tasks)
+                contexts.add(task.join());
+            for (ComposeContext childContext : contexts)
+                childContext.runPost();
+        } else {
+            for (OptionSchema schema : children)
+                schema.compose(provider);
+        }
+
+        providedChildren.addAll(children);
+        return context;
+    }
+
+    /**
+     * Publishes the current values of this schema
+     * through a single release store. This is called
+     * at the end of every {@link OptionProfile#load()}.
+     *
+     * With {@link MemoryOrder#PLAIN} accessors, a thread
+     * which calls {@link #generation()} afterwards is
+     * guaranteed to observe all values written before
+     * the publish with plain reads.
+     *
+     * If snapshots are enabled a new {@link ConfigSnapshot}
+     * is captured and swapped in as well.
+     */
+    public void publish() {
+        publish(null);
+    }
+
+    /**
+     * Publishes the values of a load. The snapshot is
+     * built from the staged values first, then the staged
+     * values are written to the fields and only then the
+     * snapshot and generation are swapped in.
+     *
+     * @param staging The staged values of the load, or null if
+     *                they were written to the fields already.
+     */
+    public void publish(LoadStaging staging) {
+        long next = generation + 1;
+        ConfigSnapshot nextSnapshot = provider.snapshots() ?
+                ConfigSnapshot.capture(this, snapshot, next, staging) : null;
+        if (staging != null)
+            staging.apply();
+        if (nextSnapshot != null)
+            snapshot = nextSnapshot;
+        GENERATION.setRelease(this, next);
+    }
+
+    /**
+     * Get the last published snapshot of the values,
+     * which is never modified by later loads.
+     *
+     * @see ConfigurationProvider#snapshots(boolean)
+     * @return The snapshot or null if snapshots are disabled or nothing was published yet.
+     */
+    public ConfigSnapshot snapshot() {
+        return snapshot;
+    }
+
+    @Override
+    void markDirty() {
+        super.markDirty();
+        loadedFingerprint = null;
+        if (source != null)
+            source.markDirty();
+    }
+
+    @Override
+    public OptionProfile getProfile() {
+        return source != null ? source.getProfile() : profile;
+    }
+
+    /**
+     * Get the publish generation of this schema
+     * with acquire semantics.
+     *
+     * @see #publish()
+     * @return The generation.
+     */
+    public long generation() {
+        return (long) GENERATION.getAcquire(this);
     }
 
     @Override
@@ -105,4 +216,38 @@ public class OptionSchema extends Schema {
         super.load(context, node);
     }
 
+    @Override
+    public int loadChanged(Context context, RawObjectNode previous, RawObjectNode node) {
+        int count = 0;
+        for (OptionSchema schema : providedChildren) {
+            count += schema.loadChanged(context, previous, node);
+        }
+
+        return count + super.loadChanged(context, previous, node);
+    }
+
+    // the children share the object
+    // of this schema when streaming
+    @Override
+    protected Schema findLoadChild(String key) {
+        for (OptionSchema schema : providedChildren) {
+            if (schema.propertyMap.containsKey(key))
+                return schema;
+            Schema owner = schema.findLoadChild(key);
+            if (owner != null)
+                return owner;
+        }
+
+        return null;
+    }
+
+    @Override
+    protected void loadAbsent(Context context, Set<Property> loaded, NodeSource source) {
+        for (OptionSchema schema : providedChildren) {
+            schema.loadAbsent(context, loaded, source);
+        }
+
+        super.loadAbsent(context, loaded, source);
+    }
+
 }
@@ -0,0 +1,91 @@
+package net.orbyfied.aspen;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A flat index of all properties and sections
+ * below a schema by their path, so paths can be
+ * resolved with a single lookup.
+ *
+ * Indices are immutable, a schema drops its index
+ * when a property is added to it or any section
+ * below it, see {@link Schema#withProperty(Property)}.
+ */
+@SuppressWarnings("rawtypes")
+final class PathIndex {
+
+    /**
+     * Builds the index for the given schema, the root
+     * schema additionally indexes the absolute paths.
+     *
+     * @param schema The schema.
+     * @return The index.
+     */
+    static PathIndex build(Schema schema) {
+        PathIndex index = new PathIndex();
+        index.index(schema, "");
+        if (schema.parent == null)
+            index.index(schema, "/");
+        return index;
+    }
+
+    ///////////////////////////////////////
+
+    // the properties by path
+    final Map<String, Property> properties = new HashMap<>();
+
+    // the sections by path
+    final Map<String, SectionSchema> sections = new HashMap<>();
+
+    // the lazy sections which are not
+    // composed yet by path
+    final Map<String, SectionProperty> lazy = new HashMap<>();
+
+    // index the properties of the given
+    // schema under the given prefix
+    void index(Schema schema, String prefix) {
+        for (Property property : schema.propertyMap.values()) {
+            String path = prefix + property.getName();
+            if (property instanceof SectionProperty sectionProperty) {
+                if (!sectionProperty.isComposed()) {
+                    lazy.put(path, sectionProperty);
+                    continue;
+                }
+
+                Schema section = sectionProperty.get();
+                if (section instanceof SectionSchema sectionSchema)
+                    sections.put(path, sectionSchema);
+                index(section, path + "/");
+                continue;
+            }
+
+            properties.put(path, property);
+        }
+    }
+
+    /**
+     * Composes the lazy section the given path is
+     * or leads into, which drops this index.
+     *
+     * @param path The path.
+     * @return Whether a section was composed.
+     */
+    boolean composeLazy(String path) {
+        if (lazy.isEmpty())
+            return false;
+        for (Map.Entry<String, SectionProperty> entry : lazy.entrySet()) {
+            String prefix = entry.getKey();
+            SectionProperty property = entry.getValue();
+            if (!path.startsWith(prefix) || property.isComposed())
+                continue;
+            if (path.length() == prefix.length() || path.charAt(prefix.length()) == '/') {
+                property.section();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
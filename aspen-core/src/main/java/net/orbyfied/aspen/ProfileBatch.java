@@ -0,0 +1,107 @@
+package net.orbyfied.aspen;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs an operation on a batch of profiles with
+ * bounded concurrency.
+ *
+ * The default executor uses a virtual thread per task when
+ * the runtime supports them, and a cached pool of daemon
+ * threads otherwise.
+ *
+ * @author orbyfied
+ */
+final class ProfileBatch {
+
+    // the default executor, created on first use
+    private static volatile Executor defaultExecutor;
+
+    static Executor defaultExecutor() {
+        Executor executor = defaultExecutor;
+        if (executor != null)
+            return executor;
+
+        synchronized (ProfileBatch.class) {
+            if (defaultExecutor == null)
+                defaultExecutor = createDefaultExecutor();
+            return defaultExecutor;
+        }
+    }
+
+    private static Executor createDefaultExecutor() {
+        try {
+            // virtual threads, if available at runtime
+            return (ExecutorService) MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class)).invoke();
+        } catch (Throwable ignored) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "Aspen-Batch-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Runs the given action on all profiles, with at most
+     * the given amount running at the same time.
+     *
+     * @param profiles The profiles.
+     * @param action The action.
+     * @param executor The executor to run on.
+     * @param concurrency The maximum concurrency.
+     * @return The future result.
+     */
+    static CompletableFuture<BatchResult> run(Collection<OptionProfile> profiles,
+                                              Consumer<OptionProfile> action,
+                                              Executor executor,
+                                              int concurrency) {
+        final List<OptionProfile> list = List.copyOf(profiles);
+        final int count = list.size();
+        final Throwable[] errors = new Throwable[count];
+        if (count == 0)
+            return CompletableFuture.completedFuture(new BatchResult(list, Map.of()));
+
+        // each worker claims the next profile
+        // until all of them are done
+        final AtomicInteger next = new AtomicInteger();
+        final Runnable worker = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < count) {
+                try {
+                    action.accept(list.get(i));
+                } catch (Throwable t) {
+                    errors[i] = t;
+                }
+            }
+        };
+
+        int workers = Math.max(1, Math.min(concurrency, count));
+        List<CompletableFuture<?>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++)
+            futures.add(CompletableFuture.runAsync(worker, executor));
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(__ -> {
+            Map<OptionProfile, Throwable> failures = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++)
+                if (errors[i] != null)
+                    failures.put(list.get(i), errors[i]);
+            return new BatchResult(list, failures);
+        });
+    }
+
+}
@@ -6,6 +6,8 @@ import net.orbyfied.aspen.exception.PropertyLoadException;
 import net.orbyfied.aspen.raw.nodes.RawNode;
 import net.orbyfied.aspen.raw.nodes.RawScalarNode;
 import net.orbyfied.aspen.raw.nodes.RawUndefinedNode;
+import net.orbyfied.aspen.raw.stream.RawReader;
+import net.orbyfied.aspen.raw.stream.RawToken;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -67,6 +69,8 @@ public class Property<T, P> implements BaseRepresentable {
 
         protected boolean shared = false;
 
+        protected MemoryOrder memoryOrder;
+
         // the instance factory
         private final Supplier<R> factory;
 
@@ -114,6 +118,20 @@ public class Property<T, P> implements BaseRepresentable {
             return this;
         }
 
+        public Accessor<T> accessor() {
+            return accessor;
+        }
+
+        /**
+         * Set the memory order for this property,
+         * overriding the order of the schema if the
+         * accessor is a {@link FieldAccessor}.
+         */
+        public Builder<T, P, R> memoryOrder(MemoryOrder memoryOrder) {
+            this.memoryOrder = memoryOrder;
+            return this;
+        }
+
         public Builder<T, P, R> shared() {
             this.shared = true;
             return this;
@@ -129,9 +147,21 @@ public class Property<T, P> implements BaseRepresentable {
         }
 
         public R build() {
+            return build(accessor);
+        }
+
+        // builds the property with the given accessor
+        // instead of the configured one, this allows
+        // configured builders to be reused for multiple
+        // instances like in schema templates
+        R build(Accessor<T> accessor) {
             // create instance
             R property = factory.get();
 
+            // apply memory order
+            if (memoryOrder != null && accessor instanceof FieldAccessor<T> fieldAccessor)
+                accessor = fieldAccessor.withOrder(memoryOrder);
+
             // set properties
             property.provider = provider;
             property.name = name;
@@ -140,10 +170,11 @@ public class Property<T, P> implements BaseRepresentable {
             if (property.accessor == null) property.accessor = accessor;
             if (property.commenter == null) property.commenter = commenter;
 
-            // create actual accessor
+            // compile actual accessor
             if (shared)
                 property.accessor = Accessor.sharedMutable();
-            property.actualAccessor = Accessor.defaulted(Accessor.dynamic(() -> property.accessor), defaultValueSupplier);
+            property.defaultValueSupplier = defaultValueSupplier;
+            property.compileAccessor();
 
             // add components
             if (!components.isEmpty()) {
@@ -202,6 +233,12 @@ public class Property<T, P> implements BaseRepresentable {
 
     // the value accessor
     protected Accessor<T> accessor;
+
+    // the default value supplier
+    protected Supplier<T> defaultValueSupplier;
+
+    // the compiled accessor, with the
+    // default value handling inlined
     protected Accessor<T> actualAccessor;
 
     // the schema this property is located in
@@ -210,11 +247,15 @@ public class Property<T, P> implements BaseRepresentable {
     // the components on this property
     protected Map<Class<?>, PropertyComponent> componentMap;
 
+    // whether the value was set through this property
+    // since it was last loaded or emitted
+    volatile boolean dirty;
+
     /*
         Cached Values
      */
 
-    PropertyContext localContext;
+    protected PropertyContext localContext;
 
     /**
      * Constructor for builders.
@@ -229,7 +270,26 @@ public class Property<T, P> implements BaseRepresentable {
                 provider,
                 null,
                 schema
-        );
+        ).property(this);
+    }
+
+    // compiles the actual accessor from the
+    // accessor and default value supplier, the
+    // accessor may be set later, for example by
+    // schema templates for explicit properties
+    protected void compileAccessor() {
+        actualAccessor = accessor != null ? Accessor.compile(accessor, defaultValueSupplier) : null;
+    }
+
+    /**
+     * Set the value accessor of this property,
+     * recompiling the actual accessor.
+     *
+     * @param accessor The accessor.
+     */
+    public void setAccessor(Accessor<T> accessor) {
+        this.accessor = accessor;
+        compileAccessor();
     }
 
     // get the property context from
@@ -300,7 +360,7 @@ public class Property<T, P> implements BaseRepresentable {
     }
 
     public T get() {
-        return get(localContext);
+        return actualAccessor.get(localContext);
     }
 
     /**
@@ -311,10 +371,45 @@ public class Property<T, P> implements BaseRepresentable {
      */
     public void set(PropertyContext context, T value) {
         actualAccessor.register(context.property(this), value);
+        changed();
     }
 
     public void set(T value) {
-        set(localContext, value);
+        actualAccessor.register(localContext, value);
+        changed();
+    }
+
+    /**
+     * Called after the value was set through this property,
+     * not when it is loaded. Marks the property and its schemas
+     * dirty if dirty tracking or skipping unchanged loads is enabled,
+     * and the profile for an asynchronous save if enabled.
+     */
+    protected void changed() {
+        if (schema == null)
+            return;
+        ConfigurationProvider provider = schema.provider;
+        if (provider.settingDirtyTracking || provider.settingSkipUnchangedLoads) {
+            dirty = true;
+            schema.markDirty();
+        }
+
+        if (!provider.settingAsyncSave)
+            return;
+        OptionProfile profile = schema.getProfile();
+        if (profile != null)
+            provider.saveManager().markDirty(profile);
+    }
+
+    /**
+     * Check whether the value was set through this
+     * property since it was last loaded or emitted,
+     * only tracked if dirty tracking is enabled.
+     *
+     * @return True if dirty.
+     */
+    public boolean isDirty() {
+        return dirty;
     }
 
     /**
@@ -329,7 +424,7 @@ public class Property<T, P> implements BaseRepresentable {
     }
 
     public boolean has() {
-        return has(localContext);
+        return actualAccessor.has(localContext);
     }
 
     // load value impl
@@ -370,7 +465,7 @@ public class Property<T, P> implements BaseRepresentable {
     // emit value impl
     protected RawNode emitValue0(PropertyContext context, T value) {
         P primitiveValue = valueToPrimitive(value);
-        return new RawScalarNode<>(primitiveValue);
+        return RawScalarNode.ofValue(primitiveValue);
     }
 
     /**
@@ -401,7 +496,35 @@ public class Property<T, P> implements BaseRepresentable {
     @Override
     public void load(Context context, RawNode node) {
         PropertyContext c = getPropertyContextOrLocal(context);
-        set(c, loadValue(c, node));
+        T value = loadValue(c, node);
+
+        // stage the value until the load is published
+        LoadStaging staging = LoadStaging.of(c);
+        if (staging != null) {
+            staging.stage(this, c, value);
+            return;
+        }
+
+        actualAccessor.register(c.property(this), value);
+    }
+
+    /**
+     * Loads the next value from the reader, decoding
+     * scalars directly as the primitive type of this
+     * property instead of guessing their type.
+     *
+     * @param context The context.
+     * @param reader The reader.
+     */
+    @Override
+    public void load(Context context, RawReader reader) {
+        if (reader.peek() != RawToken.SCALAR) {
+            load(context, reader.readValue());
+            return;
+        }
+
+        reader.next();
+        load(context, reader.scalar(primitiveType));
     }
 
     public RawNode emit() {
@@ -1,6 +1,10 @@
 package net.orbyfied.aspen;
 
 import net.orbyfied.aspen.context.PropertyContext;
+import net.orbyfied.aspen.properties.BooleanProperty;
+import net.orbyfied.aspen.properties.DoubleProperty;
+import net.orbyfied.aspen.properties.IntProperty;
+import net.orbyfied.aspen.properties.LongProperty;
 
 /**
  * Provides simple, contextualized access
@@ -43,18 +47,35 @@ public interface PropertyAccess<T> {
         Placeholders
      */
 
-    class Future implements PropertyAccess {
-        PropertyAccess access;
+    class Future<T> implements PropertyAccess<T> {
+        // the property to access directly, or
+        // null if it is found by path
+        Property<?, ?> property;
+        // the path to find the property at
+        String path;
+
+        PropertyAccess<T> access;
+
+        // complete this placeholder with the
+        // constant access to the resolved property
+        void complete(PropertyAccess<?> access) {
+            this.access = (PropertyAccess<T>) access;
+        }
+
+        // describe the target of this placeholder
+        String describeTarget() {
+            return property != null ? "'" + property.getName() + "'" : "at path '" + path + "'";
+        }
 
         @Override
-        public void set(Object value) {
+        public void set(T value) {
             if (access == null)
                 throw new IllegalStateException("Uncompleted accessor");
             access.set(value);
         }
 
         @Override
-        public Object get() {
+        public T get() {
             if (access == null)
                 throw new IllegalStateException("Uncompleted accessor");
             return access.get();
@@ -68,27 +89,73 @@ public interface PropertyAccess<T> {
         }
     }
 
-    class PropertyFuture extends Future {
-        Property property;
-        public PropertyFuture(Property property) {
+    class PropertyFuture<T> extends Future<T> {
+        public PropertyFuture(Property<?, ?> property) {
             this.property = property;
         }
     }
 
-    class FindFuture extends Future {
-        String path;
+    class FindFuture<T> extends Future<T> {
         public FindFuture(String path) {
             this.path = path;
         }
     }
 
+    /**
+     * A placeholder for a specialized access type, which
+     * checks the type of the resolved access on completion.
+     *
+     * @param <T> The value type.
+     * @param <A> The access type.
+     */
+    class TypedFuture<T, A extends PropertyAccess<T>> extends Future<T> {
+        // the required access type
+        final Class<A> accessType;
+        // the completed access as the required type
+        A typedAccess;
+
+        protected TypedFuture(Class<A> accessType, Property<?, ?> property, String path) {
+            this.accessType = accessType;
+            this.property = property;
+            this.path = path;
+        }
+
+        @Override
+        void complete(PropertyAccess<?> access) {
+            if (!accessType.isInstance(access))
+                throw new IllegalStateException("Property " + describeTarget() + " does not resolve to " +
+                        accessType.getSimpleName() + ", got " + access.getClass().getName());
+            super.complete(access);
+            typedAccess = accessType.cast(access);
+        }
+
+        /**
+         * Get the completed access as the required type.
+         *
+         * @return The access.
+         * @throws IllegalStateException If the placeholder is not completed.
+         */
+        protected A typed() {
+            if (typedAccess == null)
+                throw new IllegalStateException("Uncompleted accessor");
+            return typedAccess;
+        }
+    }
+
     static <T> PropertyAccess<T> constant(Property<T, ?> property,
                                           ConfigurationProvider provider,
                                           Schema schema) {
-        return new PropertyAccess<>() {
-            // create context
-            final PropertyContext context = new PropertyContext(provider, null, schema);
-
+        // create primitive access
+        if (property instanceof IntProperty p)
+            return (PropertyAccess<T>) IntAccess.constant(p, provider, schema);
+        if (property instanceof LongProperty p)
+            return (PropertyAccess<T>) LongAccess.constant(p, provider, schema);
+        if (property instanceof DoubleProperty p)
+            return (PropertyAccess<T>) DoubleAccess.constant(p, provider, schema);
+        if (property instanceof BooleanProperty p)
+            return (PropertyAccess<T>) BooleanAccess.constant(p, provider, schema);
+
+        return new Constant<T, Property<T, ?>>(property, provider, schema) {
             @Override
             public void set(T value) {
                 property.set(context, value);
@@ -98,14 +165,33 @@ public interface PropertyAccess<T> {
             public T get() {
                 return property.get(context);
             }
-
-            @Override
-            public boolean has() {
-                return property.has(context);
-            }
         };
     }
 
+    /**
+     * The base of the accesses to a property in a
+     * fixed context, created by {@link #constant(Property, ConfigurationProvider, Schema)}.
+     *
+     * @param <T> The value type.
+     * @param <P> The property type.
+     */
+    abstract class Constant<T, P extends Property<T, ?>> implements PropertyAccess<T> {
+        // the property
+        protected final P property;
+        // the context to access it in
+        protected final PropertyContext context;
+
+        protected Constant(P property, ConfigurationProvider provider, Schema schema) {
+            this.property = property;
+            this.context = new PropertyContext(provider, null, schema);
+        }
+
+        @Override
+        public boolean has() {
+            return property.has(context);
+        }
+    }
+
     //////////////////////////////////////////
 
     void set(T value);
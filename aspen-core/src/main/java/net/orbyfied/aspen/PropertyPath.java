@@ -0,0 +1,105 @@
+package net.orbyfied.aspen;
+
+/**
+ * A compiled property path, which remembers the
+ * property it resolved to so repeated lookups in
+ * the same schema are a reference comparison.
+ *
+ * Paths starting with {@code /} are resolved from
+ * the root schema, other paths from the given schema.
+ * The resolution is redone automatically when properties
+ * are added to the schema, for example by
+ * {@link Schema#virtualSection(String)}.
+ *
+ * @author orbyfied
+ */
+@SuppressWarnings("rawtypes")
+public final class PropertyPath {
+
+    /**
+     * Compiles the given path.
+     *
+     * @param path The path.
+     * @return The compiled path.
+     * @throws IllegalArgumentException If the path is empty.
+     */
+    public static PropertyPath compile(String path) {
+        if (path.isEmpty() || path.equals("/"))
+            throw new IllegalArgumentException("Empty property path");
+        return new PropertyPath(path);
+    }
+
+    /**
+     * The last resolution of a path.
+     */
+    record Resolved(Schema schema, PathIndex index, Property property) { }
+
+    ///////////////////////////////////////
+
+    // the source path
+    final String path;
+
+    // whether the path is absolute
+    final boolean absolute;
+
+    // the path relative to the base schema
+    final String relative;
+
+    // the last resolution, replaced as a whole
+    volatile Resolved resolved;
+
+    PropertyPath(String path) {
+        this.path = path;
+        this.absolute = path.charAt(0) == '/';
+        this.relative = absolute ? path.substring(1) : path;
+    }
+
+    /**
+     * Resolves this path in the given schema.
+     *
+     * @param schema The schema to resolve relative paths from.
+     * @return The property or null if absent.
+     */
+    public Property resolve(Schema schema) {
+        Schema base = absolute ? schema.getRoot() : schema;
+        PathIndex index = base.pathIndex();
+        Resolved r = resolved;
+        if (r != null && r.schema == base && r.index == index)
+            return r.property;
+
+        Property property;
+        while ((property = index.properties.get(relative)) == null && index.composeLazy(relative))
+            index = base.pathIndex();
+        resolved = new Resolved(base, index, property);
+        return property;
+    }
+
+    /**
+     * Resolves this path to a section in the given schema.
+     *
+     * @param schema The schema to resolve relative paths from.
+     * @return The section or null if absent.
+     */
+    public SectionSchema resolveSection(Schema schema) {
+        Schema base = absolute ? schema.getRoot() : schema;
+        PathIndex index = base.pathIndex();
+        SectionSchema section;
+        while ((section = index.sections.get(relative)) == null && index.composeLazy(relative))
+            index = base.pathIndex();
+        return section;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public boolean isAbsolute() {
+        return absolute;
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyPath(" + path + ")";
+    }
+
+}
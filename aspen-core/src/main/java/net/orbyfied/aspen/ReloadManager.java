@@ -0,0 +1,309 @@
+package net.orbyfied.aspen;
+
+import net.orbyfied.aspen.context.IOContext;
+import net.orbyfied.aspen.exception.AspenException;
+import net.orbyfied.aspen.exception.ConfigurationLoadException;
+import net.orbyfied.aspen.raw.nodes.RawNode;
+import net.orbyfied.aspen.raw.nodes.RawObjectNode;
+import net.orbyfied.aspen.raw.nodes.RawUndefinedNode;
+
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches the files of option profiles and reloads
+ * them when they change on disk.
+ *
+ * All profiles watched by a manager share a single
+ * {@link WatchService} and watcher thread. Bursts of events
+ * for a file are debounced by {@link ConfigurationProvider#reloadDebounce()},
+ * and on reload the new node tree is diffed against the last
+ * loaded one so only the properties with changed values are
+ * loaded again, see {@link Schema#loadChanged(Context, RawObjectNode, RawObjectNode)}.
+ *
+ * Get the manager of a provider through {@link ConfigurationProvider#reloadManager()}.
+ *
+ * @author orbyfied
+ */
+public class ReloadManager {
+
+    static final Logger LOGGER = Logger.getLogger("ReloadManager");
+
+    /**
+     * A watched profile.
+     */
+    static final class Watched {
+
+        // the profile
+        final OptionProfile profile;
+
+        // the normalized absolute file path
+        final Path file;
+
+        // the last loaded tree, or null if the
+        // next reload has to load everything
+        RawObjectNode last;
+
+        Watched(OptionProfile profile, Path file) {
+            this.profile = profile;
+            this.file = file;
+        }
+
+    }
+
+    // get the key of the given profile
+    static Path keyOf(OptionProfile profile) {
+        return profile.file().toAbsolutePath().normalize();
+    }
+
+    ///////////////////////////////////////
+
+    // the configuration provider
+    final ConfigurationProvider provider;
+
+    // the watched profiles by file
+    final Map<Path, Watched> watched = new ConcurrentHashMap<>();
+
+    // the directories registered with the watch service
+    final Set<Path> registeredDirs = ConcurrentHashMap.newKeySet();
+
+    // the listeners called after a profile was reloaded
+    final List<Consumer<OptionProfile>> listeners = new CopyOnWriteArrayList<>();
+
+    // the watch service and thread,
+    // created when the first profile is watched
+    WatchService watchService;
+    Thread thread;
+
+    ReloadManager(ConfigurationProvider provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * Add a listener which is called on the watcher
+     * thread after a watched profile was reloaded and
+     * any values changed.
+     *
+     * @param listener The listener.
+     * @return This.
+     */
+    public ReloadManager onReload(Consumer<OptionProfile> listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Start watching the file of the given profile. The
+     * current file is loaded once to establish the baseline
+     * changes are diffed against.
+     *
+     * @param profile The profile.
+     * @return This.
+     */
+    public synchronized ReloadManager watch(OptionProfile profile) {
+        Path file = keyOf(profile);
+        Watched entry = new Watched(profile, file);
+        if (watched.putIfAbsent(file, entry) != null)
+            return this;
+
+        try {
+            if (watchService == null) {
+                watchService = file.getFileSystem().newWatchService();
+                thread = new Thread(this::run, "Aspen-Reload");
+                thread.setDaemon(true);
+                thread.start();
+            }
+
+            Path dir = file.getParent();
+            if (registeredDirs.add(dir)) {
+                Files.createDirectories(dir);
+                dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            }
+        } catch (Exception e) {
+            watched.remove(file);
+            throw new IllegalStateException("Failed to watch profile '" + profile.name() + "' file(" + file + ")", e);
+        }
+
+        reload(entry);
+        return this;
+    }
+
+    /**
+     * Stop watching the file of the given profile.
+     *
+     * @param profile The profile.
+     * @return This.
+     */
+    public ReloadManager unwatch(OptionProfile profile) {
+        watched.remove(keyOf(profile));
+        return this;
+    }
+
+    /**
+     * Check whether the given profile is watched.
+     *
+     * @param profile The profile.
+     * @return True/false.
+     */
+    public boolean isWatched(OptionProfile profile) {
+        return watched.containsKey(keyOf(profile));
+    }
+
+    /**
+     * Reloads the given profile now, loading only the
+     * properties which changed since the last reload. If the
+     * profile is not watched everything is loaded.
+     *
+     * @param profile The profile.
+     * @return The amount of properties loaded.
+     */
+    public int reload(OptionProfile profile) {
+        Watched entry = watched.get(keyOf(profile));
+        return reload(entry != null ? entry : new Watched(profile, keyOf(profile)));
+    }
+
+    // drop the baseline of the given profile so
+    // the next reload loads everything again
+    void invalidate(OptionProfile profile) {
+        Watched entry = watched.get(keyOf(profile));
+        if (entry == null)
+            return;
+        synchronized (entry) {
+            entry.last = null;
+        }
+    }
+
+    /**
+     * Stops watching all profiles and shuts
+     * down the watcher thread.
+     */
+    public synchronized void close() {
+        watched.clear();
+        registeredDirs.clear();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Failed to close watch service", e);
+            }
+
+            watchService = null;
+            thread = null;
+        }
+    }
+
+    // reload the given entry
+    int reload(Watched entry) {
+        OptionProfile profile = entry.profile;
+        synchronized (entry) {
+            if (!Files.exists(entry.file))
+                return 0;
+
+            try {
+                IOContext ioContext = provider.newReadContext(profile, profile.file().getFileName().toString());
+                RawNode node = profile.readTree(ioContext);
+                if (node instanceof RawUndefinedNode)
+                    return 0;
+                RawObjectNode objectNode = node.expect(RawObjectNode.class);
+
+                // load the changes against the baseline
+                RawObjectNode previous = entry.last;
+                entry.last = null;
+                Context context = provider.newLoadContext(profile);
+                int count = profile.schema().loadChanged(context, previous, objectNode);
+                entry.last = objectNode;
+
+                if (count > 0)
+                    profile.schema().publish(LoadStaging.of(context));
+                return count;
+            } catch (Exception e) {
+                if (e instanceof AspenException aspenException)
+                    throw aspenException;
+                throw new ConfigurationLoadException("Profile '" + profile.name() + "' reload failed file(" + entry.file + ")", e);
+            }
+        }
+    }
+
+    // the watcher thread loop
+    void run() {
+        final WatchService watchService = this.watchService;
+
+        // the reload deadlines of files with
+        // pending events, in nanos
+        final Map<Watched, Long> due = new HashMap<>();
+
+        try {
+            while (true) {
+                // reload the files which are due
+                long now = System.nanoTime();
+                long timeout = Long.MAX_VALUE;
+                Iterator<Map.Entry<Watched, Long>> iterator = due.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<Watched, Long> e = iterator.next();
+                    long left = e.getValue() - now;
+                    if (left > 0) {
+                        timeout = Math.min(timeout, left);
+                        continue;
+                    }
+
+                    iterator.remove();
+                    reloadFromWatcher(e.getKey());
+                }
+
+                WatchKey key = timeout == Long.MAX_VALUE ?
+                        watchService.take() :
+                        watchService.poll(timeout, TimeUnit.NANOSECONDS);
+
+                // collect all available events, postponing
+                // the reload of every affected file
+                long dueAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(provider.reloadDebounce());
+                while (key != null) {
+                    Path dir = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == OVERFLOW) {
+                            for (Watched entry : watched.values())
+                                if (entry.file.getParent().equals(dir))
+                                    due.put(entry, dueAt);
+                            continue;
+                        }
+
+                        Watched entry = watched.get(dir.resolve((Path) event.context()));
+                        if (entry != null)
+                            due.put(entry, dueAt);
+                    }
+
+                    if (!key.reset())
+                        registeredDirs.remove(dir);
+                    key = watchService.poll();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    // reload the given entry on the watcher
+    // thread, logging failures
+    void reloadFromWatcher(Watched entry) {
+        if (watched.get(entry.file) != entry)
+            return; // unwatched in the meantime
+
+        try {
+            if (reload(entry) > 0) {
+                for (Consumer<OptionProfile> listener : listeners)
+                    listener.accept(entry.profile);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to reload profile '" + entry.profile.name() + "'", e);
+        }
+    }
+
+}
@@ -0,0 +1,192 @@
+package net.orbyfied.aspen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves option profiles asynchronously on a single
+ * background writer thread.
+ *
+ * A profile marked dirty is written once after the
+ * {@link ConfigurationProvider#saveDelay()}, all changes
+ * made to it in the meantime are coalesced into that one
+ * write. Marking a profile dirty never blocks on disk I/O.
+ *
+ * The writer thread is a daemon thread, so pending writes
+ * are lost on exit unless {@link #flush()} is called.
+ *
+ * Get the manager of a provider through {@link ConfigurationProvider#saveManager()}.
+ *
+ * @author orbyfied
+ */
+public class SaveManager {
+
+    static final Logger LOGGER = Logger.getLogger("SaveManager");
+
+    ///////////////////////////////////////
+
+    // the configuration provider
+    final ConfigurationProvider provider;
+
+    // the profiles with a pending write
+    final Set<OptionProfile> pending = ConcurrentHashMap.newKeySet();
+
+    // the writer, created when the
+    // first profile is marked dirty
+    ScheduledExecutorService writer;
+
+    SaveManager(ConfigurationProvider provider) {
+        this.provider = provider;
+    }
+
+    // get or create the writer
+    synchronized ScheduledExecutorService writer() {
+        if (writer == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "Aspen-Save");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            // writes still pending on close are done by close
+            executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            writer = executor;
+        }
+
+        return writer;
+    }
+
+    /**
+     * Mark the given profile dirty, scheduling a write
+     * if none is pending yet.
+     *
+     * @param profile The profile.
+     * @return This.
+     */
+    public SaveManager markDirty(OptionProfile profile) {
+        if (pending.add(profile))
+            writer().schedule(() -> write(profile), provider.saveDelay(), TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Check whether the given profile has a pending write.
+     *
+     * @param profile The profile.
+     * @return True if pending.
+     */
+    public boolean isPending(OptionProfile profile) {
+        return pending.contains(profile);
+    }
+
+    // scheduled write of the given profile
+    void write(OptionProfile profile) {
+        if (!pending.remove(profile))
+            return;
+
+        try {
+            profile.save();
+        } catch (Throwable t) {
+            LOGGER.log(Level.WARNING, "Asynchronous save of profile '" + profile.name() + "' failed", t);
+        }
+    }
+
+    /**
+     * Writes all pending profiles now and waits
+     * for the writes to complete.
+     *
+     * @return This.
+     * @throws IllegalStateException If any write fails.
+     */
+    public SaveManager flush() {
+        return flush(null);
+    }
+
+    /**
+     * Writes the given profile now if a write is pending
+     * and waits for the write to complete.
+     *
+     * @param profile The profile, or null for all pending profiles.
+     * @return This.
+     * @throws IllegalStateException If the write fails.
+     */
+    public SaveManager flush(OptionProfile profile) {
+        ScheduledExecutorService executor;
+        synchronized (this) {
+            executor = writer;
+        }
+
+        if (executor == null || pending.isEmpty())
+            return this;
+
+        // write on the writer thread so writes
+        // of a profile never overlap
+        try {
+            executor.submit(() -> {
+                List<OptionProfile> list = profile != null ? List.of(profile) : new ArrayList<>(pending);
+                RuntimeException failure = null;
+                for (OptionProfile p : list) {
+                    if (!pending.remove(p))
+                        continue;
+
+                    try {
+                        p.save();
+                    } catch (RuntimeException e) {
+                        if (failure == null) failure = e;
+                        else failure.addSuppressed(e);
+                    }
+                }
+
+                if (failure != null)
+                    throw failure;
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Flushing pending saves failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while flushing pending saves", e);
+        }
+
+        return this;
+    }
+
+    /**
+     * Flushes all pending profiles, stops the writer thread
+     * and waits for a write in progress to complete. Marking
+     * a profile dirty afterwards starts a new writer.
+     */
+    public void close() {
+        try {
+            flush();
+        } finally {
+            ScheduledExecutorService executor;
+            synchronized (this) {
+                executor = writer;
+                writer = null;
+            }
+
+            if (executor != null) {
+                executor.shutdown();
+                try {
+                    executor.awaitTermination(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            // profiles marked dirty while closing
+            for (OptionProfile profile : new ArrayList<>(pending))
+                write(profile);
+        }
+    }
+
+}
@@ -1,23 +1,23 @@
 package net.orbyfied.aspen;
 
-import net.orbyfied.aspen.annotation.Option;
-import net.orbyfied.aspen.annotation.Section;
 import net.orbyfied.aspen.context.ComposeContext;
 import net.orbyfied.aspen.context.OptionComposeContext;
+import net.orbyfied.aspen.context.PropertyContext;
 import net.orbyfied.aspen.exception.AspenException;
 import net.orbyfied.aspen.exception.SchemaComposeException;
 import net.orbyfied.aspen.raw.nodes.*;
-import net.orbyfied.aspen.raw.source.FileLocation;
 import net.orbyfied.aspen.raw.source.NodeSource;
 import net.orbyfied.aspen.raw.source.ReadNodeSource;
+import net.orbyfied.aspen.raw.stream.RawReader;
+import net.orbyfied.aspen.raw.stream.RawToken;
 
 import java.lang.reflect.AnnotatedElement;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 
 /**
@@ -30,8 +30,9 @@ import java.util.function.Consumer;
 public abstract class Schema implements BaseRepresentable {
 
     public static Class<?> checkPropertyType(Class<?> ty) {
-        if (ty.isPrimitive())
-            throw new IllegalArgumentException("can not have property of type " + ty + ", class is primitive");
+        if (ty.isPrimitive() && ty != int.class && ty != long.class &&
+                ty != double.class && ty != boolean.class)
+            throw new IllegalArgumentException("can not have property of type " + ty + ", only int, long, double and boolean primitives are supported");
         return ty;
     }
 
@@ -57,6 +58,23 @@ public abstract class Schema implements BaseRepresentable {
     // the properties compiled
     protected final LinkedHashMap<String, Property> propertyMap = new LinkedHashMap<>();
 
+    // the flat index of all paths below this schema,
+    // built lazily and dropped on structural changes
+    volatile PathIndex pathIndex;
+
+    // whether a value in or below this schema was set
+    // or loaded since it was last emitted, only tracked
+    // if dirty tracking is enabled
+    volatile boolean dirty = true;
+
+    // the node this section was last emitted to,
+    // reused while the section is clean
+    RawObjectNode emitted;
+
+    // the memory order used for the field
+    // accessors of properties composed in this schema
+    protected MemoryOrder memoryOrder;
+
     /**
      * The comment on this schema.
      *
@@ -80,6 +98,7 @@ public abstract class Schema implements BaseRepresentable {
             this.klass = instance.getClass();
         else
             this.klass = null;
+        this.memoryOrder = parent != null ? parent.memoryOrder : provider.memoryOrder();
     }
 
     public Class<?> getSchemaClass() {
@@ -100,9 +119,42 @@ public abstract class Schema implements BaseRepresentable {
     public Schema withProperty(Property property) {
         propertyMap.put(property.name, property);
         property.schema = this;
+        invalidatePathIndex();
+        return this;
+    }
+
+    // get or build the flat path index
+    PathIndex pathIndex() {
+        PathIndex index = pathIndex;
+        if (index == null)
+            pathIndex = index = PathIndex.build(this);
+        return index;
+    }
+
+    // drop the path indices of this schema
+    // and all schemas above it
+    void invalidatePathIndex() {
+        for (Schema schema = this; schema != null; schema = schema.parent)
+            schema.pathIndex = null;
+    }
+
+    /**
+     * Set the memory order used by field accessors
+     * composed for this schema. Has to be set before
+     * composing to take effect.
+     *
+     * @param memoryOrder The memory order.
+     * @return This.
+     */
+    public Schema memoryOrder(MemoryOrder memoryOrder) {
+        this.memoryOrder = memoryOrder;
         return this;
     }
 
+    public MemoryOrder memoryOrder() {
+        return memoryOrder;
+    }
+
     public Schema setComment(String comment) {
         this.comment = comment;
         return this;
@@ -138,6 +190,16 @@ public abstract class Schema implements BaseRepresentable {
         return curr;
     }
 
+    /**
+     * Get the option profile this schema belongs to.
+     *
+     * @return The profile or null if not part of a profile.
+     */
+    public OptionProfile getProfile() {
+        Schema root = getRoot();
+        return root != this ? root.getProfile() : null;
+    }
+
     public Schema getSection(String name) {
         Property property = propertyMap.get(name);
         if (property == null || property.getClass() != SectionProperty.class)
@@ -171,7 +233,8 @@ public abstract class Schema implements BaseRepresentable {
 
     /**
      * Get a child section recursively
-     * through a path.
+     * through a path, resolved through the
+     * flat path index of this schema.
      *
      * @param path The path to traverse.
      * @return The section or null if absent.
@@ -179,62 +242,41 @@ public abstract class Schema implements BaseRepresentable {
     public SectionSchema findSection(String path) {
         if (path.isEmpty())
             return null;
-        Schema current = this;
-        int i = 0;
-        if (path.charAt(0) == '/') {
-            current = getRoot();
-            i++;
-        }
-
-        StringBuilder segment = new StringBuilder();
-        for (; i < path.length(); i++) {
-            segment.delete(0, segment.length());
-            for (; i < path.length() && path.charAt(i) != '/'; i++) {
-                segment.append(path.charAt(i));
-            }
-
-            current = current.getSection(segment.toString());
-
-            if (current == null)
-                return null;
-        }
-
-        return (SectionSchema) current;
+        Schema base = path.charAt(0) == '/' ? getRoot() : this;
+        PathIndex index = base.pathIndex();
+        SectionSchema section;
+        while ((section = index.sections.get(path)) == null && index.composeLazy(path))
+            index = base.pathIndex();
+        return section;
     }
 
     /**
      * Get a property recursively
-     * through a path.
+     * through a path, resolved through the
+     * flat path index of this schema.
      *
      * @param path The path to traverse.
-     * @return The section or null if absent.
+     * @return The property or null if absent.
      */
     public Property findProperty(String path) {
         if (path.isEmpty())
             return null;
-        Schema current = this;
-        int i = 0;
-        if (path.charAt(0) == '/') {
-            current = getRoot();
-            i++;
-        }
-
-        StringBuilder segment = new StringBuilder();
-        for (; i < path.length(); i++) {
-            segment.delete(0, segment.length());
-            for (; i < path.length() && path.charAt(i) != '/'; i++) {
-                segment.append(path.charAt(i));
-            }
-
-            Property property = current.getProperty(segment.toString());
-            if (property instanceof SectionProperty sectionProperty) {
-                current = sectionProperty.get();
-            } else {
-                return property;
-            }
-        }
+        Schema base = path.charAt(0) == '/' ? getRoot() : this;
+        PathIndex index = base.pathIndex();
+        Property property;
+        while ((property = index.properties.get(path)) == null && index.composeLazy(path))
+            index = base.pathIndex();
+        return property;
+    }
 
-        return null;
+    /**
+     * Get a property through a compiled path.
+     *
+     * @param path The compiled path.
+     * @return The property or null if absent.
+     */
+    public Property findProperty(PropertyPath path) {
+        return path.resolve(this);
     }
 
     /**
@@ -254,6 +296,24 @@ public abstract class Schema implements BaseRepresentable {
     public Property<?, ?> composeAnnotatedOption(OptionComposeContext composeContext,
                                                  Consumer<OptionComposeContext> preConfigure)
             throws SchemaComposeException
+    {
+        return composeOptionBuilder(composeContext, preConfigure).build();
+    }
+
+    /**
+     * Runs the option composer pipeline for the
+     * given context and returns the configured builder,
+     * without building the property.
+     *
+     * @param composeContext The compose context.
+     * @param preConfigure A function to call before configuring
+     *                     but after opening. Can be null to ignore.
+     * @return The configured property builder.
+     * @throws SchemaComposeException If an error occurs.
+     */
+    public Property.Builder<?, ?, ?> composeOptionBuilder(OptionComposeContext composeContext,
+                                                          Consumer<OptionComposeContext> preConfigure)
+            throws SchemaComposeException
     {
         try {
             OptionComposer composerPipeline = provider.findOptionComposerPipeline(composeContext);
@@ -265,7 +325,7 @@ public abstract class Schema implements BaseRepresentable {
                 preConfigure.accept(composeContext);
             composerPipeline.configure(composeContext); // configure context
 
-            return composeContext.builder().build();
+            return composeContext.builder();
         } catch (SchemaComposeException e) {
             throw e;
         } catch (Throwable t) {
@@ -300,120 +360,12 @@ public abstract class Schema implements BaseRepresentable {
         return composeAnnotatedOption(composeContext, preConfigure);
     }
 
-    // base composer for the schema's
-    // an instance method because i just
-    // copied over the initial code lol
+    // base composer for the schema's, stamps
+    // the properties out of the cached template
+    // for the schema class
     protected void composeBase(ConfigurationProvider provider,
                                ComposeContext context) throws Exception {
-        for (Field field : klass.getDeclaredFields()) {
-            if (Modifier.isStatic(field.getModifiers())) continue;
-            field.setAccessible(true);
-
-            Property property = null; // result property
-
-            // check for explicit property
-            if (Property.class.isAssignableFrom(field.getType())) {
-                property = (Property) field.get(instance);
-                if (property == null) continue;
-                if (property.accessor == null) {
-                    property.accessor = Accessor.memoryLocal();
-                }
-
-                withProperty(property);
-            }
-
-            // check for property access
-            Object pa;
-            if (PropertyAccess.class.isAssignableFrom(field.getType()) &&
-                    (pa = field.get(instance)) != null && pa instanceof PropertyAccess.Future propertyAccess) {
-                // get property to access
-                Property p = null;
-                if (propertyAccess instanceof PropertyAccess.PropertyFuture future) {
-                    p = future.property;
-                    if (propertyMap.get(p.name) != p) {
-                        withProperty(p);
-                    }
-                } else if (propertyAccess instanceof PropertyAccess.FindFuture future) {
-                    p = findProperty(future.path);
-                }
-
-                // create access
-                propertyAccess.access = PropertyAccess.constant(
-                        p,
-                        provider,
-                        p.schema
-                );
-            }
-
-            // check for option
-            if (provider.processAnnotations()) {
-                if (property == null &&
-                        field.isAnnotationPresent(Option.class)) {
-                    Option optionDesc = field.getAnnotation(Option.class);
-                    String name;
-                    if (optionDesc.name().equals("(get)")) {
-                        name = field.getName();
-                    } else {
-                        name = optionDesc.name();
-                    }
-
-                    Class<?> type = checkPropertyType(field.getType());
-
-                    // check for property accessor
-                    if (PropertyAccess.class.isAssignableFrom(type)) {
-                        context.schedulePost(__ -> {
-                            // get property
-                            Property p = getProperty(optionDesc.name());
-
-                            PropertyAccess access = PropertyAccess.constant(
-                                    p,
-                                    context.provider(), Schema.this
-                            );
-
-                            field.set(instance, access);
-                        });
-
-                        continue;
-                    }
-
-                    // create property
-                    property = composeAnnotatedOption(
-                            name,
-                            field,
-                            type,
-                            // set default accessor
-                            // before starting configuration
-                            ctx -> ctx.builder().accessor(Accessor.forField(this, field))
-                    );
-                    withProperty(property);
-                }
-
-                if (property != null) {
-                    property.schema = this;
-                }
-
-            }
-
-            // check for section
-            if (field.isAnnotationPresent(Section.class)) {
-                Class<?> klass = field.getType();
-                String name = field.getAnnotation(Section.class).name();
-
-                Object instance = field.get(this.instance);
-                if (instance == null) {
-                    Constructor constructor =
-                            klass.getDeclaredConstructor();
-                    constructor.setAccessible(true);
-                    instance = constructor.newInstance();
-                    field.set(this.instance, instance);
-                }
-
-                withProperty(
-                        SectionProperty.builder(provider, this, name, klass, instance)
-                        .build()
-                );
-            }
-        }
+        provider.getSchemaTemplate(klass).stamp(this, context);
     }
 
     /**
@@ -422,20 +374,47 @@ public abstract class Schema implements BaseRepresentable {
      * @return This.
      */
     public Schema compose(ConfigurationProvider provider) throws Exception {
+        ComposeContext context = composeDeferred(provider);
+        try {
+            context.runPost();
+        } catch (Throwable t) {
+            throw composeError(t);
+        }
+
+        return this;
+    }
+
+    /**
+     * Compile this schema from the class without running
+     * the post-compose tasks, which are left on the returned
+     * context for the caller to run.
+     *
+     * @param provider The provider.
+     * @return The compose context.
+     */
+    protected ComposeContext composeDeferred(ConfigurationProvider provider) throws Exception {
         try {
             // make and call composer pipeline
             ComposeContext context = provider.newSchemaComposeContext(this);
             provider
                     .findSchemaComposerPipeline(context)
                     .compose(context);
-            context.runPost();
+            return context;
         } catch (Throwable t) {
-            if (t instanceof AspenException e)
-                throw e;
-            throw new SchemaComposeException("Uncaught Error", t);
+            throw composeError(t);
         }
+    }
 
-        return this;
+    // compose the given schema as a fork/join task, leaving
+    // the post-compose tasks on the resulting context
+    static ForkJoinTask<ComposeContext> forkCompose(Schema schema, ConfigurationProvider provider) {
+        return ForkJoinTask.adapt(() -> schema.composeDeferred(provider)).fork();
+    }
+
+    static RuntimeException composeError(Throwable t) {
+        if (t instanceof AspenException e)
+            return e;
+        return new SchemaComposeException("Uncaught Error", t);
     }
 
     /*
@@ -444,38 +423,212 @@ public abstract class Schema implements BaseRepresentable {
 
     @Override
     public RawObjectNode emit(Context context) {
-        context.schema = this;
-        Context forked = context.fork();
-        RawObjectNode node = new RawObjectNode();
+        // reuse the last node of clean sections
+        boolean cache = parent != null && provider.canCacheEmit();
+        RawObjectNode node = emitted;
+        if (cache && !dirty && node != null)
+            return node;
+
+        // cleared before emitting so values set
+        // concurrently mark it dirty again, and a
+        // failed emit is never reused
+        dirty = false;
+        emitted = null;
+
+        PropertyContext forked = forkProperties(context);
+        node = new RawObjectNode();
         for (Property property : propertyMap.values()) {
+            property.dirty = false;
             node.putEntry(property.name, property.emit(forked));
         }
 
+        emitted = cache ? node : null;
         return node;
     }
 
+    /**
+     * Check whether a value in or below this schema was set
+     * or loaded since it was last emitted. Always true if dirty
+     * tracking is disabled, see {@link ConfigurationProvider#dirtyTracking(boolean)}.
+     *
+     * @return True if dirty.
+     */
+    public boolean isDirty() {
+        return dirty || !provider.dirtyTracking();
+    }
+
+    // create the context the properties of this schema are
+    // handled in, one is reused for all of them instead of
+    // allocating a property context for each
+    PropertyContext forkProperties(Context context) {
+        return new PropertyContext(context.provider, context.operation, this);
+    }
+
+    // mark this schema and all
+    // schemas above it dirty
+    void markDirty() {
+        dirty = true;
+        if (parent != null)
+            parent.markDirty();
+    }
+
     @Override
     public void load(Context context, RawNode node) {
-        context.schema = this;
-        Context forked = context.fork();
+        PropertyContext forked = forkProperties(context);
         if (!(node instanceof RawObjectNode mapNode))
             throw new IllegalStateException("Not a section/object/map node");
 
-        final ReadNodeSource vrNodeSource = new ReadNodeSource();
-        if (node.source() instanceof ReadNodeSource readNodeSource) {
-            vrNodeSource.location(readNodeSource.location());
+        // sources are not modified, so the undefined
+        // nodes can share the source of the object, and
+        // the properties only read the undefined node
+        RawNode undefined = null;
+
+        for (Property property : propertyMap.values()) {
+            RawNode n = mapNode.get(property.getName());
+            if (n == null) {
+                if (undefined == null)
+                    undefined = undefinedIn(node);
+                n = undefined;
+            }
+
+            property.dirty = false;
+            property.load(forked, n);
         }
 
-        Map<String, RawNode> mapped = mapNode.toMap();
+        markDirty();
+    }
+
+    /**
+     * Loads only the properties whose nodes differ between
+     * the previously loaded object and the new one, recursing
+     * into sections. Properties with equal content are left
+     * untouched.
+     *
+     * @param context The context.
+     * @param previous The previously loaded object, or null to load everything.
+     * @param node The new object.
+     * @return The amount of properties loaded.
+     */
+    public int loadChanged(Context context, RawObjectNode previous, RawObjectNode node) {
+        PropertyContext forked = forkProperties(context);
+
+        RawNode undefined = null;
+
+        int count = 0;
         for (Property property : propertyMap.values()) {
-            RawNode n = mapped.get(property.getName());
+            String name = property.getName();
+            RawNode n = node.get(name);
+            RawNode p = previous != null ? previous.get(name) : null;
+
+            // diff sections key by key
+            if (property instanceof SectionProperty section && n instanceof RawObjectNode objectNode) {
+                count += section.loadChanged(forked, p instanceof RawObjectNode prevObject ? prevObject : null, objectNode);
+                continue;
+            }
+
+            if (previous != null && RawNodes.contentEquals(p, n))
+                continue;
             if (n == null) {
-                n = RawUndefinedNode.undefined()
-                        .source(vrNodeSource);
+                if (undefined == null)
+                    undefined = undefinedIn(node);
+                n = undefined;
             }
 
+            property.dirty = false;
             property.load(forked, n);
+            count++;
+        }
+
+        if (count > 0)
+            markDirty();
+        return count;
+    }
+
+    /**
+     * Loads this schema from the next object in the
+     * reader, binding every value straight into the property
+     * with the same key instead of building a node tree.
+     * Unknown keys are skipped.
+     *
+     * @param context The context.
+     * @param reader The reader.
+     */
+    @Override
+    public void load(Context context, RawReader reader) {
+        if (reader.next() != RawToken.START_OBJECT)
+            throw new IllegalStateException("Not a section/object/map node at " + reader.source().toPrettyString());
+        loadObject(context, reader);
+    }
+
+    /**
+     * Loads the entries of an object from the reader,
+     * the start of the object has to be consumed already.
+     *
+     * @param context The context.
+     * @param reader The reader.
+     */
+    public void loadObject(Context context, RawReader reader) {
+        PropertyContext forked = forkProperties(context);
+
+        final NodeSource vrNodeSource = reader.source() instanceof ReadNodeSource readNodeSource ?
+                readNodeSource : new ReadNodeSource();
+
+        Set<Property> loaded = Collections.newSetFromMap(new IdentityHashMap<>());
+        RawToken token;
+        while ((token = reader.next()) == RawToken.KEY) {
+            String key = reader.key();
+            Property property = propertyMap.get(key);
+            Context c = forked;
+            if (property == null) {
+                Schema owner = findLoadChild(key);
+                if (owner == null) {
+                    reader.skipValue();
+                    continue;
+                }
+
+                property = owner.propertyMap.get(key);
+                c = new Context(context.provider, context.operation, owner);
+            }
+
+            property.dirty = false;
+            property.load(c, reader);
+            loaded.add(property);
         }
+
+        if (token != RawToken.END_OBJECT)
+            throw new IllegalStateException("Expected end of object, got " + token + " at " + reader.source().toPrettyString());
+
+        loadAbsent(context, loaded, vrNodeSource);
+        markDirty();
+    }
+
+    // find the child schema sharing the object of this
+    // schema which has a property with the given key
+    protected Schema findLoadChild(String key) {
+        return null;
+    }
+
+    // load all properties which were absent
+    // from a streamed object as undefined
+    protected void loadAbsent(Context context, Set<Property> loaded, NodeSource source) {
+        PropertyContext forked = forkProperties(context);
+        RawNode undefined = null;
+        for (Property property : propertyMap.values()) {
+            if (loaded.contains(property))
+                continue;
+            if (undefined == null)
+                undefined = RawUndefinedNode.undefined().source(source);
+            property.dirty = false;
+            property.load(forked, undefined);
+        }
+    }
+
+    // create the undefined node loaded for
+    // the keys missing from the given object
+    static RawNode undefinedIn(RawNode object) {
+        NodeSource source = object.source() instanceof ReadNodeSource readNodeSource ?
+                readNodeSource : new ReadNodeSource();
+        return RawUndefinedNode.undefined().source(source);
     }
 
 }
@@ -0,0 +1,309 @@
+package net.orbyfied.aspen;
+
+import net.orbyfied.aspen.SchemaTemplate.SlotKind;
+import net.orbyfied.aspen.util.Throwables;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * A binder for a schema class, generated at
+ * build time by the {@code aspen-processor} annotation
+ * processor as {@code <binary class name>_AspenBinder}.
+ *
+ * Provides a static table of the fields which have
+ * to be handled when composing, and direct reads, writes
+ * and constructor calls for them, so no reflection is needed
+ * to build the {@link SchemaTemplate} of the class.
+ *
+ * @author orbyfied
+ */
+public interface SchemaBinder {
+
+    /**
+     * The suffix appended to the binary name of
+     * a schema class to get the binder class name.
+     */
+    String SUFFIX = "_AspenBinder";
+
+    /**
+     * Finds and instantiates the generated binder
+     * for the given class.
+     *
+     * @param klass The schema class.
+     * @return The binder or null if none was generated.
+     */
+    static SchemaBinder find(Class<?> klass) {
+        try {
+            Class<?> binderClass = Class.forName(klass.getName() + SUFFIX, true, klass.getClassLoader());
+            if (!SchemaBinder.class.isAssignableFrom(binderClass))
+                return null;
+            return (SchemaBinder) binderClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (Exception e) {
+            Throwables.sneakyThrow(e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a new entry, used by generated binders.
+     */
+    static Entry entry(SlotKind kind, String name,
+                       int field, String fieldName, Class<?> type,
+                       AnnotatedElement element) {
+        return new Entry(kind, name, field, fieldName, type, element);
+    }
+
+    /**
+     * Creates an annotated element providing
+     * the given annotations, used by generated binders
+     * for fields with only known annotations.
+     *
+     * @param annotations The annotations.
+     * @return The element.
+     */
+    static AnnotatedElement element(Annotation... annotations) {
+        return new BoundElement(annotations);
+    }
+
+    /**
+     * Creates an annotated element which lazily
+     * resolves the field reflectively, used by generated
+     * binders for fields with annotations which could not
+     * be reproduced at build time.
+     *
+     * @param owner The declaring class.
+     * @param fieldName The field name.
+     * @return The element.
+     */
+    static AnnotatedElement reflectiveElement(Class<?> owner, String fieldName) {
+        return new ReflectiveElement(owner, fieldName);
+    }
+
+    /**
+     * Check whether the given annotation created by a
+     * generated binder equals the given object, as specified
+     * by {@link Annotation#equals(Object)}.
+     *
+     * @param annotation The annotation.
+     * @param o The object to compare with.
+     * @return Whether they are equal.
+     */
+    static boolean annotationEquals(Annotation annotation, Object o) {
+        if (annotation == o)
+            return true;
+        if (!(o instanceof Annotation other) || other.annotationType() != annotation.annotationType())
+            return false;
+        for (Method member : annotation.annotationType().getDeclaredMethods())
+            if (!Objects.deepEquals(memberValue(member, annotation), memberValue(member, other)))
+                return false;
+        return true;
+    }
+
+    /**
+     * Get the hash code of the given annotation created
+     * by a generated binder, as specified by {@link Annotation#hashCode()}.
+     *
+     * @param annotation The annotation.
+     * @return The hash code.
+     */
+    static int annotationHashCode(Annotation annotation) {
+        int hash = 0;
+        for (Method member : annotation.annotationType().getDeclaredMethods()) {
+            // the member hash of arrays is the array hash code,
+            // which is the element hash of a wrapping array minus 31
+            Object value = memberValue(member, annotation);
+            hash += (127 * member.getName().hashCode()) ^ (Arrays.deepHashCode(new Object[] { value }) - 31);
+        }
+
+        return hash;
+    }
+
+    /**
+     * Get the string representation of the given
+     * annotation created by a generated binder.
+     *
+     * @param annotation The annotation.
+     * @return The string.
+     */
+    static String annotationToString(Annotation annotation) {
+        StringJoiner joiner = new StringJoiner(", ", "@" + annotation.annotationType().getName() + "(", ")");
+        for (Method member : annotation.annotationType().getDeclaredMethods()) {
+            // format arrays by their elements
+            String value = Arrays.deepToString(new Object[] { memberValue(member, annotation) });
+            joiner.add(member.getName() + "=" + value.substring(1, value.length() - 1));
+        }
+
+        return joiner.toString();
+    }
+
+    // get the value of the given member
+    // of the given annotation
+    private static Object memberValue(Method member, Annotation annotation) {
+        try {
+            return member.invoke(annotation);
+        } catch (Exception e) {
+            Throwables.sneakyThrow(e);
+            return null;
+        }
+    }
+
+    /**
+     * An entry in the static table of a binder,
+     * which is turned into a slot of the template.
+     *
+     * @param kind The kind of slot.
+     * @param name The property or section name.
+     * @param field The field index for {@link #get(Object, int)} and co.
+     * @param fieldName The name of the field.
+     * @param type The erased field type.
+     * @param element The element to read annotations from.
+     */
+    record Entry(SlotKind kind, String name,
+                 int field, String fieldName, Class<?> type,
+                 AnnotatedElement element) { }
+
+    /**
+     * An annotated element backed by annotation
+     * instances created at build time.
+     */
+    final class BoundElement implements AnnotatedElement {
+
+        // the annotations
+        final Annotation[] annotations;
+
+        BoundElement(Annotation[] annotations) {
+            this.annotations = annotations;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+            for (Annotation annotation : annotations)
+                if (annotation.annotationType() == annotationClass)
+                    return (T) annotation;
+            return null;
+        }
+
+        @Override
+        public Annotation[] getAnnotations() {
+            return annotations.clone();
+        }
+
+        @Override
+        public Annotation[] getDeclaredAnnotations() {
+            return annotations.clone();
+        }
+
+    }
+
+    /**
+     * An annotated element delegating to the
+     * reflectively resolved field.
+     */
+    final class ReflectiveElement implements AnnotatedElement {
+
+        // the field descriptor
+        final Class<?> owner;
+        final String fieldName;
+
+        // the resolved field
+        volatile Field field;
+
+        ReflectiveElement(Class<?> owner, String fieldName) {
+            this.owner = owner;
+            this.fieldName = fieldName;
+        }
+
+        public Field field() {
+            Field f = field;
+            if (f == null) {
+                try {
+                    field = f = owner.getDeclaredField(fieldName);
+                } catch (NoSuchFieldException e) {
+                    Throwables.sneakyThrow(e);
+                }
+            }
+
+            return f;
+        }
+
+        @Override
+        public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+            return field().getAnnotation(annotationClass);
+        }
+
+        @Override
+        public Annotation[] getAnnotations() {
+            return field().getAnnotations();
+        }
+
+        @Override
+        public Annotation[] getDeclaredAnnotations() {
+            return field().getDeclaredAnnotations();
+        }
+
+    }
+
+    ////////////////////////////////////////
+
+    /**
+     * Get the schema class this binder is for.
+     */
+    Class<?> type();
+
+    /**
+     * Get the static entry table in
+     * field declaration order.
+     */
+    Entry[] entries();
+
+    /**
+     * Get the default resource path specified by
+     * {@code @Defaults} on the class, or null.
+     */
+    String defaultsResource();
+
+    /**
+     * Get the documentation specified by
+     * {@code @Docs} on the class, or null.
+     */
+    String docs();
+
+    /**
+     * Read the field with the given index.
+     *
+     * @param instance The schema instance.
+     * @param field The field index.
+     * @return The value.
+     */
+    Object get(Object instance, int field);
+
+    /**
+     * Write the field with the given index.
+     *
+     * @param instance The schema instance.
+     * @param field The field index.
+     * @param value The value.
+     */
+    void set(Object instance, int field, Object value);
+
+    /**
+     * Creates a new instance of the type of the
+     * field with the given index through its no-args
+     * constructor, for sections and option containers.
+     *
+     * @param field The field index.
+     * @return The instance.
+     * @throws Exception If no accessible constructor exists.
+     */
+    Object newInstance(int field) throws Exception;
+
+}
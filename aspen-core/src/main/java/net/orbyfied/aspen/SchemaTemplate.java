@@ -0,0 +1,581 @@
+package net.orbyfied.aspen;
+
+import net.orbyfied.aspen.annotation.Defaults;
+import net.orbyfied.aspen.annotation.Docs;
+import net.orbyfied.aspen.annotation.Option;
+import net.orbyfied.aspen.annotation.Options;
+import net.orbyfied.aspen.annotation.Section;
+import net.orbyfied.aspen.context.ComposeContext;
+import net.orbyfied.aspen.context.OptionComposeContext;
+import net.orbyfied.aspen.util.Throwables;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * An immutable template of the layout of a
+ * schema class, created once per class and
+ * configuration provider.
+ *
+ * Records the fields, annotations, section
+ * constructors and the configured option property
+ * builders so that composing a schema for a new
+ * instance of the class only has to stamp out
+ * the properties instead of reflecting over the
+ * class and running the composer pipelines again.
+ *
+ * The option builders are composed lazily on the
+ * first stamp, in the context of the first schema.
+ * This means option composers are expected to
+ * produce the same result for every instance of
+ * a class, if they don't, template caching should
+ * be disabled through {@link ConfigurationProvider#cacheSchemaTemplates(boolean)}.
+ *
+ * @author orbyfied
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public final class SchemaTemplate {
+
+    /**
+     * Creates a new template for the given class,
+     * by reflecting over the declared fields.
+     *
+     * @param provider The configuration provider.
+     * @param klass The schema class.
+     * @return The template.
+     */
+    public static SchemaTemplate create(ConfigurationProvider provider, Class<?> klass) {
+        // check for generated binder
+        if (provider.useSchemaBinders()) {
+            SchemaBinder binder = SchemaBinder.find(klass);
+            if (binder != null)
+                return create(provider, binder);
+        }
+
+        List<Slot> slots = new ArrayList<>();
+        for (Field field : klass.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) continue;
+            field.setAccessible(true);
+
+            Class<?> type = field.getType();
+            boolean isProperty = Property.class.isAssignableFrom(type);
+
+            // check for explicit property
+            if (isProperty)
+                slots.add(new Slot(SlotKind.PROPERTY, field, field.getName(), type));
+
+            // check for property access
+            if (PropertyAccess.class.isAssignableFrom(type))
+                slots.add(new Slot(SlotKind.PROPERTY_ACCESS, field, field.getName(), type));
+
+            // check for option
+            if (provider.processAnnotations() && !isProperty) {
+                Option optionDesc = field.getAnnotation(Option.class);
+                if (optionDesc != null) {
+                    String name;
+                    if (optionDesc.name().equals("(get)")) {
+                        name = field.getName();
+                    } else {
+                        name = optionDesc.name();
+                    }
+
+                    Schema.checkPropertyType(type);
+                    if (PropertyAccess.class.isAssignableFrom(type)) {
+                        slots.add(new Slot(SlotKind.OPTION_ACCESS, field, name, type));
+                    } else {
+                        Slot slot = new Slot(SlotKind.OPTION, field, name, type);
+                        slot.handle = FieldAccessor.handleFor(field);
+                        slots.add(slot);
+                    }
+                }
+            }
+
+            // check for section
+            Section sectionDesc = field.getAnnotation(Section.class);
+            if (sectionDesc != null)
+                slots.add(new Slot(SlotKind.SECTION, field, sectionDesc.name(), type)
+                        .constructor(findConstructor(type)));
+
+            // check for option container
+            if (field.isAnnotationPresent(Options.class))
+                slots.add(new Slot(SlotKind.OPTIONS, field, field.getName(), type)
+                        .constructor(findConstructor(type)));
+        }
+
+        // class level annotations
+        Defaults defaults = klass.getAnnotation(Defaults.class);
+        Docs docs = klass.getAnnotation(Docs.class);
+
+        return new SchemaTemplate(klass, null, slots.toArray(new Slot[0]),
+                defaults != null ? defaults.resource() : null,
+                docs != null ? docs.inLine() : null);
+    }
+
+    /**
+     * Creates a new template for the class of the
+     * given generated binder, from its static entry
+     * table, without any reflection.
+     *
+     * @param provider The configuration provider.
+     * @param binder The binder.
+     * @return The template.
+     */
+    public static SchemaTemplate create(ConfigurationProvider provider, SchemaBinder binder) {
+        SchemaBinder.Entry[] entries = binder.entries();
+        List<Slot> slots = new ArrayList<>(entries.length);
+        for (SchemaBinder.Entry entry : entries) {
+            if (!provider.processAnnotations() &&
+                    (entry.kind() == SlotKind.OPTION || entry.kind() == SlotKind.OPTION_ACCESS))
+                continue;
+            if (entry.kind() == SlotKind.OPTION || entry.kind() == SlotKind.OPTION_ACCESS)
+                Schema.checkPropertyType(entry.type());
+
+            slots.add(new Slot(entry.kind(), binder, entry));
+        }
+
+        return new SchemaTemplate(binder.type(), binder, slots.toArray(new Slot[0]),
+                binder.defaultsResource(), binder.docs());
+    }
+
+    // find the no-args constructor for
+    // the given class or null if absent
+    static Constructor<?> findConstructor(Class<?> klass) {
+        try {
+            Constructor<?> constructor = klass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The kind of field a slot describes.
+     */
+    public enum SlotKind {
+
+        /** A field holding a {@link Property} instance. */
+        PROPERTY,
+
+        /** A field which may hold a {@link PropertyAccess.Future}. */
+        PROPERTY_ACCESS,
+
+        /** A field annotated with {@link Option}. */
+        OPTION,
+
+        /** A {@link PropertyAccess} field annotated with {@link Option}. */
+        OPTION_ACCESS,
+
+        /** A field annotated with {@link Section}. */
+        SECTION,
+
+        /** A field annotated with {@link Options}. */
+        OPTIONS
+
+    }
+
+    /**
+     * A field of the template class which has
+     * to be handled when composing.
+     */
+    public static final class Slot {
+
+        // the kind of slot
+        final SlotKind kind;
+
+        // the field, null if bound
+        final Field field;
+
+        // the property or section name
+        final String name;
+
+        // the field name
+        final String fieldName;
+
+        // the field type
+        final Class<?> type;
+
+        // the element to read annotations from
+        final AnnotatedElement element;
+
+        // the binder and field index, if bound
+        final SchemaBinder binder;
+        final int index;
+
+        // the constructor for section and
+        // option container instances
+        Constructor<?> constructor;
+
+        // the var handle for option fields,
+        // resolved lazily if bound
+        volatile VarHandle handle;
+
+        // the configured option builder
+        // composed lazily on the first stamp
+        Property.Builder builder;
+
+        // if the builder uses the default field accessor,
+        // if not the option has to be composed by the pipeline
+        // for every instance
+        boolean fieldAccessor;
+
+        Slot(SlotKind kind, Field field, String name, Class<?> type) {
+            this.kind = kind;
+            this.field = field;
+            this.name = name;
+            this.fieldName = field.getName();
+            this.type = type;
+            this.element = field;
+            this.binder = null;
+            this.index = -1;
+        }
+
+        Slot(SlotKind kind, SchemaBinder binder, SchemaBinder.Entry entry) {
+            this.kind = kind;
+            this.field = null;
+            this.name = entry.name();
+            this.fieldName = entry.fieldName();
+            this.type = entry.type();
+            this.element = entry.element();
+            this.binder = binder;
+            this.index = entry.field();
+        }
+
+        Slot constructor(Constructor<?> constructor) {
+            this.constructor = constructor;
+            return this;
+        }
+
+        public SlotKind kind() {
+            return kind;
+        }
+
+        /**
+         * Get the field of this slot, this is
+         * null if the template was created from
+         * a generated binder.
+         */
+        public Field field() {
+            return field;
+        }
+
+        public AnnotatedElement element() {
+            return element;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public Class<?> type() {
+            return type;
+        }
+
+        // read the field on the given instance
+        Object get(Object instance) throws Exception {
+            if (binder != null)
+                return binder.get(instance, index);
+            return field.get(instance);
+        }
+
+        // write the field on the given instance
+        void set(Object instance, Object value) throws Exception {
+            if (binder != null)
+                binder.set(instance, index, value);
+            else
+                field.set(instance, value);
+        }
+
+        // get the value of the field or
+        // create a new instance and set it
+        Object getOrCreate(Object instance) throws Exception {
+            Object value = get(instance);
+            if (value == null) {
+                if (binder != null) {
+                    value = binder.newInstance(index);
+                } else {
+                    if (constructor == null)
+                        throw new NoSuchMethodException(type.getName() + ".<init>()");
+                    value = constructor.newInstance();
+                }
+
+                set(instance, value);
+            }
+
+            return value;
+        }
+
+        // get or resolve the var handle
+        VarHandle handle() {
+            VarHandle h = handle;
+            if (h == null) {
+                handle = h = FieldAccessor.handleFor(binder.type(), fieldName, type);
+            }
+
+            return h;
+        }
+
+        // create a field accessor for the
+        // instance of the given schema
+        Accessor newFieldAccessor(Schema schema) {
+            // primitive fields always use the var handle
+            // to read and write without boxing
+            if (binder != null && !type.isPrimitive()) {
+                FieldAccessor accessor = FieldAccessor.bound(schema, binder, index, this::handle);
+                return accessor.withOrder(schema.memoryOrder);
+            }
+
+            return FieldAccessor.of(schema, handle(), schema.memoryOrder);
+        }
+
+        // create the property for an option
+        // in the given schema
+        Property newOption(Schema schema) {
+            if (fieldAccessor)
+                return builder.build(newFieldAccessor(schema));
+            return schema.composeAnnotatedOption(name, element, type,
+                    ctx -> ctx.builder().accessor(newFieldAccessor(schema)));
+        }
+
+    }
+
+    ////////////////////////////////////////
+
+    // the schema class
+    final Class<?> klass;
+
+    // the generated binder or null
+    // if created reflectively
+    final SchemaBinder binder;
+
+    // the field slots in declaration order
+    final Slot[] slots;
+
+    // the class level data
+    final String defaultsResource;
+    final String docs;
+
+    // if the option builders have been composed
+    volatile boolean optionsComposed;
+
+    SchemaTemplate(Class<?> klass, SchemaBinder binder, Slot[] slots,
+                   String defaultsResource, String docs) {
+        this.klass = klass;
+        this.binder = binder;
+        this.slots = slots;
+        this.defaultsResource = defaultsResource;
+        this.docs = docs;
+    }
+
+    public Class<?> getSchemaClass() {
+        return klass;
+    }
+
+    /**
+     * Get the generated binder this template
+     * was created from, or null if it was created
+     * reflectively.
+     */
+    public SchemaBinder binder() {
+        return binder;
+    }
+
+    /**
+     * Get an unmodifiable view of the slots.
+     */
+    public List<Slot> slots() {
+        return Collections.unmodifiableList(Arrays.asList(slots));
+    }
+
+    /**
+     * Get the default resource path specified by
+     * {@link Defaults} on the class, or null if absent.
+     */
+    public String defaultsResource() {
+        return defaultsResource;
+    }
+
+    /**
+     * Get the documentation specified by {@link Docs}
+     * on the class, or null if absent.
+     */
+    public String docs() {
+        return docs;
+    }
+
+    // compose the option builders in the context
+    // of the given schema if not done yet
+    void composeOptions(Schema schema) {
+        if (optionsComposed)
+            return;
+        synchronized (this) {
+            if (optionsComposed)
+                return;
+
+            for (Slot slot : slots) {
+                if (slot.kind != SlotKind.OPTION) continue;
+
+                // compose with a placeholder field accessor,
+                // to check whether a composer replaced it
+                Accessor placeholder = slot.newFieldAccessor(schema);
+                OptionComposeContext composeContext = new OptionComposeContext(schema.provider, null, schema,
+                        slot.name, slot.type, slot.element);
+                slot.builder = schema.composeOptionBuilder(composeContext,
+                        ctx -> ctx.builder().accessor(placeholder));
+                slot.fieldAccessor = slot.builder.accessor() == placeholder;
+            }
+
+            optionsComposed = true;
+        }
+    }
+
+    /**
+     * Stamps the properties and sections described by
+     * this template onto the given schema.
+     *
+     * Does not handle {@link SlotKind#OPTIONS}, as option
+     * containers are only composed by {@link OptionSchema}.
+     *
+     * @param schema The schema.
+     * @param context The compose context.
+     * @throws Exception If an error occurs.
+     */
+    public void stamp(Schema schema, ComposeContext context) throws Exception {
+        composeOptions(schema);
+
+        final ConfigurationProvider provider = schema.provider;
+        final Object instance = schema.instance;
+
+        // compose the sections in parallel if enabled and join
+        // all of them before any post task runs, they are still
+        // added and post-composed in slot order below
+        final ForkJoinTask<ComposeContext>[] sectionTasks = provider.parallelCompose() && !provider.lazySections() ?
+                forkSections(schema) : null;
+        final ComposeContext[] sectionContexts = sectionTasks != null ? new ComposeContext[slots.length] : null;
+        if (sectionTasks != null) {
+            for (int i = 0; i < slots.length; i++)
+                if (sectionTasks[i] != null)
+                    sectionContexts[i] = sectionTasks[i].join();
+        }
+
+        for (int i = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+            switch (slot.kind) {
+                case PROPERTY -> {
+                    Property property = (Property) slot.get(instance);
+                    if (property == null) continue;
+                    if (property.accessor == null) {
+                        property.setAccessor(Accessor.memoryLocal());
+                    }
+
+                    schema.withProperty(property);
+                }
+
+                case PROPERTY_ACCESS -> {
+                    if (!(slot.get(instance) instanceof PropertyAccess.Future propertyAccess))
+                        continue;
+
+                    // get property to access
+                    Property p = null;
+                    if (propertyAccess.property != null) {
+                        p = propertyAccess.property;
+                        if (schema.propertyMap.get(p.name) != p) {
+                            schema.withProperty(p);
+                        }
+                    } else if (propertyAccess.path != null) {
+                        p = schema.findProperty(propertyAccess.path);
+                    }
+
+                    // create access
+                    propertyAccess.complete(PropertyAccess.constant(
+                            p,
+                            provider,
+                            p.schema
+                    ));
+                }
+
+                case OPTION -> schema.withProperty(slot.newOption(schema));
+
+                case OPTION_ACCESS -> context.schedulePost(__ -> {
+                    // get property
+                    Property p = schema.getProperty(slot.name);
+
+                    PropertyAccess access = PropertyAccess.constant(
+                            p,
+                            context.provider(), schema
+                    );
+
+                    slot.set(instance, access);
+                });
+
+                case SECTION -> {
+                    if (sectionContexts != null) {
+                        ComposeContext sectionContext = sectionContexts[i];
+                        sectionContext.runPost();
+                        schema.withProperty(
+                                SectionProperty.ofSchema(provider, (SectionSchema) sectionContext.schema(), slot.type)
+                                        .build()
+                        );
+                        continue;
+                    }
+
+                    if (provider.lazySections()) {
+                        // the instance is only created
+                        // once the section is composed
+                        schema.withProperty(
+                                SectionProperty.lazy(provider, schema, slot.name, slot.type, () -> {
+                                    try {
+                                        return slot.getOrCreate(instance);
+                                    } catch (Exception e) {
+                                        Throwables.sneakyThrow(e);
+                                        return null;
+                                    }
+                                }).build()
+                        );
+                        continue;
+                    }
+
+                    Object sectionInstance = slot.getOrCreate(instance);
+
+                    schema.withProperty(
+                            SectionProperty.builder(provider, schema, slot.name, slot.type, sectionInstance)
+                                    .build()
+                    );
+                }
+
+                case OPTIONS -> { }
+            }
+        }
+    }
+
+    // fork the compose tasks for the sections of the given
+    // schema by slot index, or null if there are less than two
+    ForkJoinTask<ComposeContext>[] forkSections(Schema schema) throws Exception {
+        int count = 0;
+        for (Slot slot : slots)
+            if (slot.kind == SlotKind.SECTION)
+                count++;
+        if (count < 2)
+            return null;
+
+        ForkJoinTask<ComposeContext>[] tasks = new ForkJoinTask[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+            if (slot.kind != SlotKind.SECTION) continue;
+
+            SectionSchema section = new SectionSchema(schema, slot.name, slot.getOrCreate(schema.instance));
+            tasks[i] = Schema.forkCompose(section, schema.provider);
+        }
+
+        return tasks;
+    }
+
+}
@@ -5,9 +5,12 @@ import net.orbyfied.aspen.exception.PropertyExceptions;
 import net.orbyfied.aspen.raw.nodes.RawNode;
 import net.orbyfied.aspen.raw.nodes.RawObjectNode;
 import net.orbyfied.aspen.raw.nodes.RawScalarNode;
+import net.orbyfied.aspen.raw.stream.RawReader;
+import net.orbyfied.aspen.raw.stream.RawToken;
 import net.orbyfied.aspen.util.Throwables;
 
 import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
 
 /**
  * Special type of property denoting
@@ -57,21 +60,174 @@ public class SectionProperty extends Property<Schema, Void> {
         }).provider(provider);
     }
 
+    /**
+     * Creates a builder for a section property
+     * over an already composed section schema.
+     */
+    public static Builder<Schema, Void, SectionProperty> ofSchema(
+            ConfigurationProvider provider,
+            SectionSchema schema,
+            Class<?> sectionClass
+    ) {
+        return new Builder(schema.getName(), sectionClass, Void.class, () -> new SectionProperty(schema))
+                .provider(provider);
+    }
+
+    /**
+     * Creates a builder for a section property which
+     * composes its schema on first access.
+     *
+     * Until then, objects loaded into the section are kept
+     * as nodes and bound once the section is composed. The
+     * section instance is only obtained from the given supplier
+     * when the section is composed on the first access through
+     * the schema, for example {@link Schema#getSection(String)}.
+     *
+     * @param instance Supplies the section instance, if it
+     *                 supplies null a new instance is created.
+     */
+    public static Builder<Schema, Void, SectionProperty> lazy(
+            ConfigurationProvider provider,
+            Schema parent,
+            String name,
+            Class<?> sectionClass,
+            final Supplier<?> instance
+    ) {
+        return new Builder(name, sectionClass, Void.class, () -> new SectionProperty(() -> {
+            try {
+                Object sectionInstance = instance.get();
+                if (sectionInstance == null) {
+                    // create instance
+                    Constructor constructor = sectionClass.getDeclaredConstructor();
+                    sectionInstance = constructor.newInstance();
+                }
+
+                SectionSchema schema = new SectionSchema(parent, name, sectionInstance);
+                schema.compose(provider);
+                return schema;
+            } catch (Exception e) {
+                Throwables.sneakyThrow(e);
+                return null;
+            }
+        })).provider(provider);
+    }
+
     ///////////////////////////////////////////
 
+    // the section schema, null until
+    // composed if the section is lazy
+    private volatile SectionSchema section;
+
+    // composes the section, null once composed
+    private Supplier<SectionSchema> composer;
+
+    // the last object loaded before
+    // the section was composed
+    private RawNode pending;
+
     protected SectionProperty(SectionSchema schema) {
+        section = schema;
         accessor = Accessor.special(schema);
     }
 
+    protected SectionProperty(Supplier<SectionSchema> composer) {
+        this.composer = composer;
+        accessor = Accessor.lazySpecial(this::section);
+    }
+
+    /**
+     * Get the section schema, composing
+     * it first if the section is lazy.
+     *
+     * @return The schema.
+     */
+    public SectionSchema section() {
+        SectionSchema s = section;
+        if (s != null)
+            return s;
+
+        synchronized (this) {
+            if (section == null) {
+                s = composer.get();
+                section = s;
+                composer = null;
+                if (schema != null)
+                    schema.invalidatePathIndex();
+
+                // bind the data loaded so far
+                RawNode node = pending;
+                pending = null;
+                if (node != null) {
+                    PropertyContext c = getPropertyContextOrLocal(new Context(provider, null, schema));
+                    s.load(c, node);
+                }
+            }
+
+            return section;
+        }
+    }
+
+    /**
+     * Check whether the section schema has been composed,
+     * which is always true for sections which are not lazy.
+     */
+    public boolean isComposed() {
+        return section != null;
+    }
+
+    // keep the given object for binding once the section is
+    // composed, returns false if it is composed already
+    private synchronized boolean defer(RawNode node) {
+        if (section != null)
+            return false;
+        pending = node;
+        return true;
+    }
+
     @Override
     protected Schema loadValue0(PropertyContext context, RawNode node) {
         node.expect(RawObjectNode.class);
+        if (defer(node))
+            return null;
 
         Schema schema = get(context);
         schema.load(context, node);
         return schema;
     }
 
+    @Override
+    public void load(Context context, RawReader reader) {
+        if (reader.peek() != RawToken.START_OBJECT) {
+            super.load(context, reader);
+            return;
+        }
+
+        PropertyContext c = getPropertyContextOrLocal(context);
+        if (!isComposed()) {
+            RawNode node = reader.readValue();
+            if (!defer(node))
+                get(c).load(c, node);
+            return;
+        }
+
+        // stream straight into the section
+        reader.next();
+        get(c).loadObject(c, reader);
+    }
+
+    /**
+     * Loads only the changed properties of the section,
+     * or keeps the object if the section is not composed yet.
+     *
+     * @see Schema#loadChanged(Context, RawObjectNode, RawObjectNode)
+     */
+    public int loadChanged(Context context, RawObjectNode previous, RawObjectNode node) {
+        if (defer(node))
+            return 0;
+        PropertyContext c = getPropertyContextOrLocal(context);
+        return get(c).loadChanged(c, previous, node);
+    }
+
     @Override
     protected RawNode emitValue0(PropertyContext context, Schema value) {
         Schema schema = get(context);
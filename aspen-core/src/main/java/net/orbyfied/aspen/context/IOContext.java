@@ -5,12 +5,17 @@ import net.orbyfied.aspen.Context;
 import net.orbyfied.aspen.Schema;
 import net.orbyfied.aspen.raw.RawIOContext;
 import net.orbyfied.aspen.raw.RawProvider;
+import net.orbyfied.aspen.raw.source.FileInfo;
 
 public class IOContext extends Context implements RawIOContext {
 
     // the file name
     final String fileName;
 
+    // the file info shared by read
+    // nodes, lazily created
+    FileInfo fileInfo;
+
     public IOContext(ConfigurationProvider provider, Schema schema,
                      String fileName) {
         /*
@@ -27,6 +32,13 @@ public class IOContext extends Context implements RawIOContext {
         return fileName;
     }
 
+    @Override
+    public FileInfo fileInfo() {
+        if (fileInfo == null)
+            fileInfo = new FileInfo().setName(fileName);
+        return fileInfo;
+    }
+
     @Override
     public RawProvider<?> rawProvider() {
         return provider().rawProvider();
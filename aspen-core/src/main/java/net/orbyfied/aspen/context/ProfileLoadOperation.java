@@ -1,9 +1,27 @@
 package net.orbyfied.aspen.context;
 
+import net.orbyfied.aspen.LoadStaging;
 import net.orbyfied.aspen.OptionProfile;
+import org.jetbrains.annotations.Nullable;
 
 public class ProfileLoadOperation extends ProfileOperation {
+
+    // the staging of the loaded values, null
+    // if they are written right away
+    final LoadStaging staging;
+
     public ProfileLoadOperation(OptionProfile profile) {
+        this(profile, null);
+    }
+
+    public ProfileLoadOperation(OptionProfile profile, LoadStaging staging) {
         super(profile);
+        this.staging = staging;
     }
+
+    @Nullable
+    public LoadStaging staging() {
+        return staging;
+    }
+
 }
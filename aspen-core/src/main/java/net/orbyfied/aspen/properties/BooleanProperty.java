@@ -0,0 +1,105 @@
+package net.orbyfied.aspen.properties;
+
+import net.orbyfied.aspen.Accessor;
+import net.orbyfied.aspen.context.PropertyContext;
+import net.orbyfied.aspen.exception.PropertyExceptions;
+import net.orbyfied.aspen.raw.nodes.RawNode;
+import net.orbyfied.aspen.raw.nodes.RawScalarNode;
+
+/**
+ * A property for {@code boolean} values, which when
+ * bound to a primitive field through an {@link Accessor.OfBoolean}
+ * reads, writes, loads and emits without boxing.
+ */
+public class BooleanProperty extends PrimitiveProperty<Boolean, Boolean, Accessor.OfBoolean> {
+
+    public static Builder<Boolean, Boolean, BooleanProperty> builder(String name) {
+        return new Builder<>(name, Boolean.class, Boolean.class, BooleanProperty::new);
+    }
+
+    // load the primitive value from the given node
+    static boolean loadBoolean(RawNode node) {
+        RawScalarNode<?> scalarNode = node.expect(RawScalarNode.class);
+        if (!scalarNode.isBoolean())
+            return PropertyExceptions.failValueError("expected boolean for boolean property, got " + scalarNode.getValue());
+        return scalarNode.booleanValue();
+    }
+
+    ////////////////////////////////
+
+    protected BooleanProperty() {
+        super(Accessor.OfBoolean.class);
+    }
+
+    /**
+     * Get the value in the given context, without
+     * boxing if the accessor is primitive.
+     *
+     * @param context The context.
+     * @return The value or false if absent.
+     */
+    public boolean getBoolean(PropertyContext context) {
+        if (primitiveAccessor != null)
+            return primitiveAccessor.getBoolean(context.property(this));
+        Boolean value = get(context);
+        return value != null ? value : false;
+    }
+
+    public boolean getBoolean() {
+        if (primitiveAccessor != null)
+            return primitiveAccessor.getBoolean(localContext);
+        Boolean value = get();
+        return value != null ? value : false;
+    }
+
+    /**
+     * Set the value in the given context, without
+     * boxing if the accessor is primitive.
+     *
+     * @param context The context.
+     * @param value The value.
+     */
+    public void setBoolean(PropertyContext context, boolean value) {
+        if (primitiveAccessor != null) {
+            primitiveAccessor.registerBoolean(context.property(this), value);
+            changed();
+        } else {
+            set(context, value);
+        }
+    }
+
+    public void setBoolean(boolean value) {
+        if (primitiveAccessor != null) {
+            primitiveAccessor.registerBoolean(localContext, value);
+            changed();
+        } else {
+            set(value);
+        }
+    }
+
+    @Override
+    public Boolean valueFromPrimitive(Boolean primitive) {
+        return primitive == null ? null : primitive;
+    }
+
+    @Override
+    public Boolean valueToPrimitive(Boolean value) {
+        return value == null ? null : value;
+    }
+
+    @Override
+    protected Boolean loadValue0(PropertyContext context, RawNode node) {
+        return loadBoolean(node);
+    }
+
+    @Override
+    protected void loadPrimitive(PropertyContext context, RawNode node) {
+        primitiveAccessor.registerBoolean(context, loadBoolean(node));
+    }
+
+    @Override
+    protected RawNode emitPrimitive(PropertyContext context) {
+        return RawScalarNode.of(primitiveAccessor.getBoolean(context));
+    }
+
+}
@@ -0,0 +1,105 @@
+package net.orbyfied.aspen.properties;
+
+import net.orbyfied.aspen.Accessor;
+import net.orbyfied.aspen.context.PropertyContext;
+import net.orbyfied.aspen.exception.PropertyExceptions;
+import net.orbyfied.aspen.raw.nodes.RawNode;
+import net.orbyfied.aspen.raw.nodes.RawScalarNode;
+
+/**
+ * A property for {@code double} values, which when
+ * bound to a primitive field through an {@link Accessor.OfDouble}
+ * reads, writes, loads and emits without boxing.
+ */
+public class DoubleProperty extends PrimitiveProperty<Double, Number, Accessor.OfDouble> {
+
+    public static Builder<Double, Number, DoubleProperty> builder(String name) {
+        return new Builder<>(name, Double.class, Double.class, DoubleProperty::new);
+    }
+
+    // load the primitive value from the given node
+    static double loadDouble(RawNode node) {
+        RawScalarNode<?> scalarNode = node.expect(RawScalarNode.class);
+        if (!scalarNode.isNumber())
+            return PropertyExceptions.failValueError("expected number for double property, got " + scalarNode.getValue());
+        return scalarNode.doubleValue();
+    }
+
+    ////////////////////////////////
+
+    protected DoubleProperty() {
+        super(Accessor.OfDouble.class);
+    }
+
+    /**
+     * Get the value in the given context, without
+     * boxing if the accessor is primitive.
+     *
+     * @param context The context.
+     * @return The value or 0 if absent.
+     */
+    public double getDouble(PropertyContext context) {
+        if (primitiveAccessor != null)
+            return primitiveAccessor.getDouble(context.property(this));
+        Double value = get(context);
+        return value != null ? value : 0;
+    }
+
+    public double getDouble() {
+        if (primitiveAccessor != null)
+            return primitiveAccessor.getDouble(localContext);
+        Double value = get();
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Set the value in the given context, without
+     * boxing if the accessor is primitive.
+     *
+     * @param context The context.
+     * @param value The value.
+     */
+    public void setDouble(PropertyContext context, double value) {
+        if (primitiveAccessor != null) {
+            primitiveAccessor.registerDouble(context.property(this), value);
+            changed();
+        } else {
+            set(context, value);
+        }
+    }
+
+    public void setDouble(double value) {
+        if (primitiveAccessor != null) {
+            primitiveAccessor.registerDouble(localContext, value);
+            changed();
+        } else {
+            set(value);
+        }
+    }
+
+    @Override
+    public Double valueFromPrimitive(Number primitive) {
+        return primitive == null ? null : primitive.doubleValue();
+    }
+
+    @Override
+    public Number valueToPrimitive(Double value) {
+        return value == null ? null : value.doubleValue();
+    }
+
+    @Override
+    protected Double loadValue0(PropertyContext context, RawNode node) {
+        return loadDouble(node);
+    }
+
+    @Override
+    protected void loadPrimitive(PropertyContext context, RawNode node) {
+        primitiveAccessor.registerDouble(context, loadDouble(node));
+    }
+
+    @Override
+    protected RawNode emitPrimitive(PropertyContext context) {
+        return RawScalarNode.of(primitiveAccessor.getDouble(context));
+    }
+
+}
@@ -0,0 +1,105 @@
+package net.orbyfied.aspen.properties;
+
+import net.orbyfied.aspen.Accessor;
+import net.orbyfied.aspen.context.PropertyContext;
+import net.orbyfied.aspen.exception.PropertyExceptions;
+import net.orbyfied.aspen.raw.nodes.RawNode;
+import net.orbyfied.aspen.raw.nodes.RawScalarNode;
+
+/**
+ * A property for {@code int} values, which when
+ * bound to a primitive field through an {@link Accessor.OfInt}
+ * reads, writes, loads and emits without boxing.
+ */
+public class IntProperty extends PrimitiveProperty<Integer, Number, Accessor.OfInt> {
+
+    public static Builder<Integer, Number, IntProperty> builder(String name) {
+        return new Builder<>(name, Integer.class, Long.class, IntProperty::new);
+    }
+
+    // load the primitive value from the given node
+    static int loadInt(RawNode node) {
+        RawScalarNode<?> scalarNode = node.expect(RawScalarNode.class);
+        if (!scalarNode.isNumber())
+            return PropertyExceptions.failValueError("expected number for int property, got " + scalarNode.getValue());
+        return (int) NumberProperty.loadIntegral(scalarNode, Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
+    }
+
+    ////////////////////////////////
+
+    protected IntProperty() {
+        super(Accessor.OfInt.class);
+    }
+
+    /**
+     * Get the value in the given context, without
+     * boxing if the accessor is primitive.
+     *
+     * @param context The context.
+     * @return The value or 0 if absent.
+     */
+    public int getInt(PropertyContext context) {
+        if (primitiveAccessor != null)
+            return primitiveAccessor.getInt(context.property(this));
+        Integer value = get(context);
+        return value != null ? value : 0;
+    }
+
+    public int getInt() {
+        if (primitiveAccessor != null)
+            return primitiveAccessor.getInt(localContext);
+        Integer value = get();
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Set the value in the given context, without
+     * boxing if the accessor is primitive.
+     *
+     * @param context The context.
+     * @param value The value.
+     */
+    public void setInt(PropertyContext context, int value) {
+        if (primitiveAccessor != null) {
+            primitiveAccessor.registerInt(context.property(this), value);
+            changed();
+        } else {
+            set(context, value);
+        }
+    }
+
+    public void setInt(int value) {
+        if (primitiveAccessor != null) {
+            primitiveAccessor.registerInt(localContext, value);
+            changed();
+        } else {
+            set(value);
+        }
+    }
+
+    @Override
+    public Integer valueFromPrimitive(Number primitive) {
+        return primitive == null ? null : primitive.intValue();
+    }
+
+    @Override
+    public Number valueToPrimitive(Integer value) {
+        return value == null ? null : value.longValue();
+    }
+
+    @Override
+    protected Integer loadValue0(PropertyContext context, RawNode node) {
+        return loadInt(node);
+    }
+
+    @Override
+    protected void loadPrimitive(PropertyContext context, RawNode node) {
+        primitiveAccessor.registerInt(context, loadInt(node));
+    }
+
+    @Override
+    protected RawNode emitPrimitive(PropertyContext context) {
+        return RawScalarNode.of((long) primitiveAccessor.getInt(context));
+    }
+
+}
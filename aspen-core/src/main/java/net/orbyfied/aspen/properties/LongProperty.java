@@ -0,0 +1,105 @@
+package net.orbyfied.aspen.properties;
+
+import net.orbyfied.aspen.Accessor;
+import net.orbyfied.aspen.context.PropertyContext;
+import net.orbyfied.aspen.exception.PropertyExceptions;
+import net.orbyfied.aspen.raw.nodes.RawNode;
+import net.orbyfied.aspen.raw.nodes.RawScalarNode;
+
+/**
+ * A property for {@code long} values, which when
+ * bound to a primitive field through an {@link Accessor.OfLong}
+ * reads, writes, loads and emits without boxing.
+ */
+public class LongProperty extends PrimitiveProperty<Long, Number, Accessor.OfLong> {
+
+    public static Builder<Long, Number, LongProperty> builder(String name) {
+        return new Builder<>(name, Long.class, Long.class, LongProperty::new);
+    }
+
+    // load the primitive value from the given node
+    static long loadLong(RawNode node) {
+        RawScalarNode<?> scalarNode = node.expect(RawScalarNode.class);
+        if (!scalarNode.isNumber())
+            return PropertyExceptions.failValueError("expected number for long property, got " + scalarNode.getValue());
+        return NumberProperty.loadIntegral(scalarNode, Long.MIN_VALUE, Long.MAX_VALUE, "long");
+    }
+
+    ////////////////////////////////
+
+    protected LongProperty() {
+        super(Accessor.OfLong.class);
+    }
+
+    /**
+     * Get the value in the given context, without
+     * boxing if the accessor is primitive.
+     *
+     * @param context The context.
+     * @return The value or 0 if absent.
+     */
+    public long getLong(PropertyContext context) {
+        if (primitiveAccessor != null)
+            return primitiveAccessor.getLong(context.property(this));
+        Long value = get(context);
+        return value != null ? value : 0;
+    }
+
+    public long getLong() {
+        if (primitiveAccessor != null)
+            return primitiveAccessor.getLong(localContext);
+        Long value = get();
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Set the value in the given context, without
+     * boxing if the accessor is primitive.
+     *
+     * @param context The context.
+     * @param value The value.
+     */
+    public void setLong(PropertyContext context, long value) {
+        if (primitiveAccessor != null) {
+            primitiveAccessor.registerLong(context.property(this), value);
+            changed();
+        } else {
+            set(context, value);
+        }
+    }
+
+    public void setLong(long value) {
+        if (primitiveAccessor != null) {
+            primitiveAccessor.registerLong(localContext, value);
+            changed();
+        } else {
+            set(value);
+        }
+    }
+
+    @Override
+    public Long valueFromPrimitive(Number primitive) {
+        return primitive == null ? null : primitive.longValue();
+    }
+
+    @Override
+    public Number valueToPrimitive(Long value) {
+        return value == null ? null : value.longValue();
+    }
+
+    @Override
+    protected Long loadValue0(PropertyContext context, RawNode node) {
+        return loadLong(node);
+    }
+
+    @Override
+    protected void loadPrimitive(PropertyContext context, RawNode node) {
+        primitiveAccessor.registerLong(context, loadLong(node));
+    }
+
+    @Override
+    protected RawNode emitPrimitive(PropertyContext context) {
+        return RawScalarNode.of(primitiveAccessor.getLong(context));
+    }
+
+}
@@ -3,6 +3,7 @@ package net.orbyfied.aspen.properties;
 import net.orbyfied.aspen.Property;
 import net.orbyfied.aspen.context.PropertyContext;
 import net.orbyfied.aspen.exception.PropertyExceptions;
+import net.orbyfied.aspen.raw.nodes.RawLongNode;
 import net.orbyfied.aspen.raw.nodes.RawNode;
 import net.orbyfied.aspen.raw.nodes.RawScalarNode;
 import net.orbyfied.aspen.util.NumberUtil;
@@ -58,19 +59,69 @@ public class NumberProperty<T extends Number> extends Property<T, Number> {
     protected RawNode emitValue0(PropertyContext context, T value) {
         if (value == null)
             return RawScalarNode.nullNode();
-        return new RawScalarNode<>(switch (numberType) {
-            case INT -> value.longValue();
-            case FLOAT -> value.doubleValue();
-        });
+        return switch (numberType) {
+            case INT -> RawScalarNode.of(value.longValue());
+            case FLOAT -> RawScalarNode.of(value.doubleValue());
+        };
     }
 
     @Override
     protected T loadValue0(PropertyContext context, RawNode node) {
         RawScalarNode<?> scalarNode = node.expect(RawScalarNode.class);
-        if (scalarNode.getValue() == null)
+        if (scalarNode.isNull())
             return null;
-        return NumberUtil.castBoxed(scalarNode.expectValueNullable(Number.class).getValue(),
-                complexType);
+        if (!scalarNode.isNumber())
+            return PropertyExceptions.failValueError("expected number, got " + scalarNode.getValue());
+
+        // box straight from the primitive value
+        try {
+            return switch (numberType) {
+                case INT -> isIntegral(scalarNode) ?
+                        NumberUtil.boxLong(scalarNode.longValue(), complexType) :
+                        NumberUtil.boxDouble(scalarNode.doubleValue(), complexType);
+                case FLOAT -> NumberUtil.boxDouble(scalarNode.doubleValue(), complexType);
+            };
+        } catch (ArithmeticException e) {
+            return PropertyExceptions.failValueError("value " + scalarNode.getValue() +
+                    " does not fit " + complexType.getSimpleName() + " property");
+        }
+    }
+
+    // check whether the given number node holds
+    // an integral value, without boxing long nodes
+    static boolean isIntegral(RawScalarNode<?> node) {
+        if (node instanceof RawLongNode)
+            return true;
+        Object value = node.getValue();
+        return value instanceof Long || value instanceof Integer ||
+                value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Load the exact integral value of the given number
+     * node, failing with a value error on fractional values
+     * or values outside of the given range.
+     *
+     * @param node The number node.
+     * @param min The minimum value.
+     * @param max The maximum value.
+     * @param type The property type name for errors.
+     * @return The value.
+     */
+    static long loadIntegral(RawScalarNode<?> node, long min, long max, String type) {
+        long value;
+        if (isIntegral(node)) {
+            value = node.longValue();
+        } else {
+            double d = node.doubleValue();
+            if (!NumberUtil.isExactLong(d))
+                return PropertyExceptions.failValueError("expected integer for " + type + " property, got " + node.getValue());
+            value = (long) d;
+        }
+
+        if (value < min || value > max)
+            return PropertyExceptions.failValueError("value " + node.getValue() + " out of range for " + type + " property");
+        return value;
     }
 
 }
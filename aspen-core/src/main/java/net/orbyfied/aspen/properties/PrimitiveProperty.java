@@ -0,0 +1,87 @@
+package net.orbyfied.aspen.properties;
+
+import net.orbyfied.aspen.Accessor;
+import net.orbyfied.aspen.Context;
+import net.orbyfied.aspen.LoadStaging;
+import net.orbyfied.aspen.Property;
+import net.orbyfied.aspen.context.PropertyContext;
+import net.orbyfied.aspen.exception.PropertyLoadException;
+import net.orbyfied.aspen.raw.nodes.RawNode;
+
+/**
+ * The base of the properties for primitive values,
+ * which when bound to a primitive accessor load and
+ * emit without boxing. Subclasses provide the typed
+ * get and set methods and the primitive load and emit.
+ *
+ * @param <T> The boxed value type.
+ * @param <P> The primitive type.
+ * @param <A> The primitive accessor type.
+ */
+public abstract class PrimitiveProperty<T, P, A extends Accessor<T>> extends Property<T, P> {
+
+    // the primitive accessor type
+    final Class<A> accessorType;
+
+    // the primitive accessor, null if
+    // the accessor is not primitive
+    protected A primitiveAccessor;
+
+    protected PrimitiveProperty(Class<A> accessorType) {
+        this.accessorType = accessorType;
+    }
+
+    @Override
+    protected void compileAccessor() {
+        super.compileAccessor();
+        primitiveAccessor = accessorType.isInstance(actualAccessor) ? accessorType.cast(actualAccessor) : null;
+    }
+
+    /**
+     * Loads the value from the given node straight
+     * into the primitive accessor.
+     *
+     * @param context The property context.
+     * @param node The node.
+     */
+    protected abstract void loadPrimitive(PropertyContext context, RawNode node);
+
+    /**
+     * Emits the value read from the primitive
+     * accessor into a new node.
+     *
+     * @param context The property context.
+     * @return The node.
+     */
+    protected abstract RawNode emitPrimitive(PropertyContext context);
+
+    @Override
+    public void load(Context context, RawNode node) {
+        // components check boxed values,
+        // and staged values are boxed
+        if (primitiveAccessor == null || componentMap != null || LoadStaging.of(context) != null) {
+            super.load(context, node);
+            return;
+        }
+
+        PropertyContext c = getPropertyContextOrLocal(context);
+        try {
+            loadPrimitive(c, node);
+        } catch (Exception e) {
+            throw new PropertyLoadException("<cause>", e, this, node);
+        }
+    }
+
+    @Override
+    public RawNode emit(Context context) {
+        if (primitiveAccessor == null)
+            return super.emit(context);
+
+        PropertyContext c = getPropertyContextOrLocal(context);
+        RawNode node = emitPrimitive(c);
+        if (commenter != null)
+            commenter.accept(node);
+        return node;
+    }
+
+}
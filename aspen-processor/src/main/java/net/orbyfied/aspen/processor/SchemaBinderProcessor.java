@@ -0,0 +1,453 @@
+package net.orbyfied.aspen.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.SimpleAnnotationValueVisitor9;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code net.orbyfied.aspen.SchemaBinder} for
+ * every class declaring fields annotated with {@code @Option},
+ * {@code @Section} or {@code @Options}.
+ *
+ * The binder is named {@code <binary class name>_AspenBinder}
+ * and placed in the package of the class. It contains a static
+ * table of the fields to compose, direct field reads and writes
+ * and direct constructor calls for sections.
+ *
+ * Classes which can not be bound without reflection, for example
+ * because of private fields, are skipped with a note, the reflective
+ * path is used for them at runtime.
+ *
+ * @author orbyfied
+ */
+@SupportedAnnotationTypes({
+        SchemaBinderProcessor.OPTION,
+        SchemaBinderProcessor.SECTION,
+        SchemaBinderProcessor.OPTIONS
+})
+public class SchemaBinderProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION_PACKAGE = "net.orbyfied.aspen.annotation";
+    static final String OPTION   = ANNOTATION_PACKAGE + ".Option";
+    static final String SECTION  = ANNOTATION_PACKAGE + ".Section";
+    static final String OPTIONS  = ANNOTATION_PACKAGE + ".Options";
+    static final String DEFAULTS = ANNOTATION_PACKAGE + ".Defaults";
+    static final String DOCS     = ANNOTATION_PACKAGE + ".Docs";
+
+    static final String PROPERTY        = "net.orbyfied.aspen.Property";
+    static final String PROPERTY_ACCESS = "net.orbyfied.aspen.PropertyAccess";
+
+    static final String SUFFIX = "_AspenBinder";
+
+    // the processing utilities
+    Elements elements;
+    Types types;
+    Filer filer;
+    Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types    = processingEnv.getTypeUtils();
+        this.filer    = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // collect the declaring classes
+        Set<TypeElement> classes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.FIELD) continue;
+                classes.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+
+        for (TypeElement klass : classes) {
+            try {
+                BinderModel model = model(klass);
+                if (model != null)
+                    write(model);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to write schema binder: " + e, klass);
+            }
+        }
+
+        return false;
+    }
+
+    /* Model */
+
+    // a field of the class with its slots
+    record FieldModel(int index, String name, String typeLiteral, String castType,
+                      boolean isFinal, String constructType, String element,
+                      List<String[]> slots) { }
+
+    // the binder to generate
+    record BinderModel(TypeElement klass, String packageName, String simpleName,
+                       String className, String defaultsResource, String docs,
+                       List<FieldModel> fields) { }
+
+    // skip the class with a note
+    BinderModel skip(TypeElement klass, String reason) {
+        messager.printMessage(Diagnostic.Kind.NOTE,
+                "No schema binder generated for " + klass.getQualifiedName() + ": " + reason, klass);
+        return null;
+    }
+
+    BinderModel model(TypeElement klass) {
+        PackageElement pkg = elements.getPackageOf(klass);
+        if (klass.getNestingKind() != NestingKind.TOP_LEVEL && klass.getNestingKind() != NestingKind.MEMBER)
+            return skip(klass, "local or anonymous class");
+        if (!accessible(klass, pkg))
+            return skip(klass, "class is not accessible from its package");
+
+        TypeMirror propertyType = erasedType(PROPERTY);
+        TypeMirror propertyAccessType = erasedType(PROPERTY_ACCESS);
+
+        List<FieldModel> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(klass.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC)) continue;
+
+            // unresolved types are reported by the compiler
+            if (field.asType().getKind() == TypeKind.ERROR)
+                return null;
+
+            TypeMirror type = types.erasure(field.asType());
+            String name = field.getSimpleName().toString();
+            boolean isProperty = propertyType != null && types.isAssignable(type, propertyType);
+            boolean isAccess = propertyAccessType != null && types.isAssignable(type, propertyAccessType);
+
+            // collect slots, same order as the reflective template
+            List<String[]> slots = new ArrayList<>();
+            boolean writes = false;
+            if (isProperty)
+                slots.add(new String[] { "PROPERTY", name });
+            if (isAccess)
+                slots.add(new String[] { "PROPERTY_ACCESS", name });
+            AnnotationMirror option = findAnnotation(field, OPTION);
+            if (option != null && !isProperty) {
+                String optionName = (String) value(option, "name");
+                if (optionName.equals("(get)"))
+                    optionName = name;
+                slots.add(new String[] { isAccess ? "OPTION_ACCESS" : "OPTION", optionName });
+                writes = true;
+            }
+
+            AnnotationMirror section = findAnnotation(field, SECTION);
+            if (section != null) {
+                slots.add(new String[] { "SECTION", (String) value(section, "name") });
+                writes = true;
+            }
+
+            boolean isOptions = findAnnotation(field, OPTIONS) != null;
+            if (isOptions) {
+                slots.add(new String[] { "OPTIONS", name });
+                writes = true;
+            }
+
+            if (slots.isEmpty()) continue;
+
+            // check access
+            if (modifiers.contains(Modifier.PRIVATE))
+                return skip(klass, "field " + name + " is private");
+            if (writes && modifiers.contains(Modifier.FINAL))
+                return skip(klass, "field " + name + " is final");
+            if (!accessible(type, pkg))
+                return skip(klass, "type of field " + name + " is not accessible");
+
+            // find constructor for sections
+            String constructType = null;
+            if (section != null || isOptions) {
+                TypeElement typeElement = (TypeElement) types.asElement(type);
+                ConstructorCheck check = constructor(typeElement, pkg);
+                if (check == ConstructorCheck.INACCESSIBLE)
+                    return skip(klass, "constructor of " + typeElement.getQualifiedName() + " is not accessible");
+                if (check == ConstructorCheck.PRESENT)
+                    constructType = typeElement.getQualifiedName().toString();
+            }
+
+            String castType = type.getKind().isPrimitive() ?
+                    types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString() :
+                    type.toString();
+            fields.add(new FieldModel(fields.size(), name, type + ".class", castType,
+                    modifiers.contains(Modifier.FINAL), constructType,
+                    element(klass, field), slots));
+        }
+
+        if (fields.isEmpty())
+            return null;
+
+        // class level annotations
+        AnnotationMirror defaults = findAnnotation(klass, DEFAULTS);
+        AnnotationMirror docs = findAnnotation(klass, DOCS);
+
+        String binaryName = elements.getBinaryName(klass).toString();
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String simpleName = (packageName.isEmpty() ? binaryName :
+                binaryName.substring(packageName.length() + 1)) + SUFFIX;
+        return new BinderModel(klass, packageName, simpleName,
+                klass.getQualifiedName().toString(),
+                defaults != null ? (String) value(defaults, "resource") : null,
+                docs != null ? (String) value(docs, "inLine") : null,
+                fields);
+    }
+
+    enum ConstructorCheck {
+        PRESENT,
+        ABSENT,
+        INACCESSIBLE
+    }
+
+    // check for a no-args constructor usable from the package
+    ConstructorCheck constructor(TypeElement type, PackageElement pkg) {
+        if (type.getKind() != ElementKind.CLASS ||
+                type.getModifiers().contains(Modifier.ABSTRACT) ||
+                (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)))
+            return ConstructorCheck.ABSENT;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (!constructor.getParameters().isEmpty()) continue;
+            Set<Modifier> modifiers = constructor.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE))
+                return ConstructorCheck.INACCESSIBLE;
+            if (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(type).equals(pkg))
+                return ConstructorCheck.INACCESSIBLE;
+            return ConstructorCheck.PRESENT;
+        }
+
+        return ConstructorCheck.ABSENT;
+    }
+
+    // check if the type can be referenced from the package
+    boolean accessible(TypeMirror type, PackageElement pkg) {
+        if (type.getKind() == TypeKind.ARRAY)
+            return accessible(types.erasure(((javax.lang.model.type.ArrayType) type).getComponentType()), pkg);
+        if (type.getKind() != TypeKind.DECLARED)
+            return true;
+        return accessible((TypeElement) ((DeclaredType) type).asElement(), pkg);
+    }
+
+    boolean accessible(TypeElement type, PackageElement pkg) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE))
+                return false;
+            if (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(current).equals(pkg))
+                return false;
+            current = current.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    TypeMirror erasedType(String name) {
+        TypeElement element = elements.getTypeElement(name);
+        return element != null ? types.erasure(element.asType()) : null;
+    }
+
+    AnnotationMirror findAnnotation(Element element, String name) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors())
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(name))
+                return mirror;
+        return null;
+    }
+
+    Object value(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                elements.getElementValuesWithDefaults(mirror).entrySet())
+            if (entry.getKey().getSimpleName().contentEquals(name))
+                return entry.getValue().getValue();
+        return null;
+    }
+
+    /* Annotations */
+
+    // the source for the annotated element of
+    // the field, reproduces the known annotations
+    // or falls back to reflection
+    String element(TypeElement klass, VariableElement field) {
+        List<String> annotations = new ArrayList<>();
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (retention(type) != RetentionPolicy.RUNTIME) continue;
+
+            String source = null;
+            if (elements.getPackageOf(type).getQualifiedName().contentEquals(ANNOTATION_PACKAGE))
+                source = annotation(type, mirror);
+            if (source == null)
+                return "SchemaBinder.reflectiveElement(" + klass.getQualifiedName() + ".class, " +
+                        elements.getConstantExpression(field.getSimpleName().toString()) + ")";
+            annotations.add(source);
+        }
+
+        return "SchemaBinder.element(" + String.join(", ", annotations) + ")";
+    }
+
+    RetentionPolicy retention(TypeElement annotationType) {
+        AnnotationMirror retention = findAnnotation(annotationType, "java.lang.annotation.Retention");
+        if (retention == null)
+            return RetentionPolicy.CLASS;
+        return RetentionPolicy.valueOf(((VariableElement) value(retention, "value")).getSimpleName().toString());
+    }
+
+    // create an anonymous implementation of the annotation
+    // or null if a value can not be expressed as a literal,
+    // equality, hashing and toString follow the annotation contract
+    String annotation(TypeElement type, AnnotationMirror mirror) {
+        String name = type.getQualifiedName().toString();
+        StringBuilder b = new StringBuilder();
+        b.append("new ").append(name).append("() {\n");
+        b.append("                public Class<? extends java.lang.annotation.Annotation> annotationType() { return ")
+                .append(name).append(".class; }\n");
+        b.append("                public boolean equals(Object o) { return SchemaBinder.annotationEquals(this, o); }\n");
+        b.append("                public int hashCode() { return SchemaBinder.annotationHashCode(this); }\n");
+        b.append("                public String toString() { return SchemaBinder.annotationToString(this); }\n");
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            String literal = entry.getValue().accept(LITERAL_VISITOR, this);
+            if (literal == null)
+                return null;
+            b.append("                public ").append(entry.getKey().getReturnType())
+                    .append(" ").append(entry.getKey().getSimpleName())
+                    .append("() { return ").append(literal).append("; }\n");
+        }
+
+        b.append("            }");
+        return b.toString();
+    }
+
+    // creates source literals for simple annotation values
+    static final SimpleAnnotationValueVisitor9<String, SchemaBinderProcessor> LITERAL_VISITOR =
+            new SimpleAnnotationValueVisitor9<>() {
+                @Override
+                protected String defaultAction(Object o, SchemaBinderProcessor p) {
+                    if (o instanceof String || o instanceof Number || o instanceof Boolean || o instanceof Character)
+                        return p.elements.getConstantExpression(o);
+                    return null;
+                }
+
+                @Override
+                public String visitType(TypeMirror t, SchemaBinderProcessor p) {
+                    return p.types.erasure(t) + ".class";
+                }
+
+                @Override
+                public String visitEnumConstant(VariableElement c, SchemaBinderProcessor p) {
+                    return ((TypeElement) c.getEnclosingElement()).getQualifiedName() + "." + c.getSimpleName();
+                }
+            };
+
+    /* Source */
+
+    void write(BinderModel model) throws IOException {
+        String qualifiedName = model.packageName().isEmpty() ? model.simpleName() :
+                model.packageName() + "." + model.simpleName();
+
+        StringBuilder b = new StringBuilder();
+        if (!model.packageName().isEmpty())
+            b.append("package ").append(model.packageName()).append(";\n\n");
+        b.append("import net.orbyfied.aspen.SchemaBinder;\n");
+        b.append("import net.orbyfied.aspen.SchemaTemplate.SlotKind;\n\n");
+        b.append("@javax.annotation.processing.Generated(\"").append(SchemaBinderProcessor.class.getName()).append("\")\n");
+        b.append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+        b.append("public final class ").append(model.simpleName()).append(" implements SchemaBinder {\n\n");
+
+        // entry table
+        b.append("    static final Entry[] ENTRIES = {\n");
+        for (FieldModel field : model.fields()) {
+            for (String[] slot : field.slots()) {
+                b.append("        SchemaBinder.entry(SlotKind.").append(slot[0]).append(", ")
+                        .append(elements.getConstantExpression(slot[1])).append(", ")
+                        .append(field.index()).append(", ")
+                        .append(elements.getConstantExpression(field.name())).append(", ")
+                        .append(field.typeLiteral()).append(",\n")
+                        .append("            ").append(field.element()).append("),\n");
+            }
+        }
+        b.append("    };\n\n");
+
+        b.append("    @Override\n    public Class<?> type() {\n        return ")
+                .append(model.className()).append(".class;\n    }\n\n");
+        b.append("    @Override\n    public Entry[] entries() {\n        return ENTRIES;\n    }\n\n");
+        b.append("    @Override\n    public String defaultsResource() {\n        return ")
+                .append(literalOrNull(model.defaultsResource())).append(";\n    }\n\n");
+        b.append("    @Override\n    public String docs() {\n        return ")
+                .append(literalOrNull(model.docs())).append(";\n    }\n\n");
+
+        // get
+        b.append("    @Override\n    public Object get(Object instance, int field) {\n");
+        b.append("        ").append(model.className()).append(" o = (").append(model.className()).append(") instance;\n");
+        b.append("        return switch (field) {\n");
+        for (FieldModel field : model.fields())
+            b.append("            case ").append(field.index()).append(" -> o.").append(field.name()).append(";\n");
+        b.append("            default -> throw new IndexOutOfBoundsException(field);\n");
+        b.append("        };\n    }\n\n");
+
+        // set
+        b.append("    @Override\n    public void set(Object instance, int field, Object value) {\n");
+        b.append("        ").append(model.className()).append(" o = (").append(model.className()).append(") instance;\n");
+        b.append("        switch (field) {\n");
+        for (FieldModel field : model.fields()) {
+            b.append("            case ").append(field.index()).append(" -> ");
+            if (field.isFinal())
+                b.append("throw new UnsupportedOperationException(\"final field ").append(field.name()).append("\");\n");
+            else
+                b.append("o.").append(field.name()).append(" = (").append(field.castType()).append(") value;\n");
+        }
+        b.append("            default -> throw new IndexOutOfBoundsException(field);\n");
+        b.append("        }\n    }\n\n");
+
+        // new instance
+        b.append("    @Override\n    public Object newInstance(int field) throws Exception {\n");
+        b.append("        switch (field) {\n");
+        for (FieldModel field : model.fields()) {
+            if (field.constructType() == null) continue;
+            b.append("            case ").append(field.index()).append(" -> { return new ")
+                    .append(field.constructType()).append("(); }\n");
+        }
+        b.append("            default -> throw new NoSuchMethodException(\"no constructor for field \" + field);\n");
+        b.append("        }\n    }\n\n");
+
+        b.append("}\n");
+
+        try (Writer writer = filer.createSourceFile(qualifiedName, model.klass()).openWriter()) {
+            writer.write(b.toString());
+        }
+    }
+
+    String literalOrNull(String s) {
+        return s != null ? elements.getConstantExpression(s) : "null";
+    }
+
+}
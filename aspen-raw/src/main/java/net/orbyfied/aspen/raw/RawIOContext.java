@@ -1,5 +1,7 @@
 package net.orbyfied.aspen.raw;
 
+import net.orbyfied.aspen.raw.source.FileInfo;
+
 /**
  * A context for raw data operations related to
  * (file-based) input and output.
@@ -15,4 +17,15 @@ public interface RawIOContext extends RawContext {
      */
     String fileName();
 
+    /**
+     * Get the file info shared by the sources of
+     * all nodes read in this context. Implementations
+     * should return the same instance on every call.
+     *
+     * @return The file info.
+     */
+    default FileInfo fileInfo() {
+        return new FileInfo().setName(fileName());
+    }
+
 }
@@ -1,6 +1,7 @@
 package net.orbyfied.aspen.raw;
 
 import net.orbyfied.aspen.raw.nodes.RawNode;
+import net.orbyfied.aspen.raw.stream.RawReader;
 
 public interface Representable<C> {
 
@@ -22,4 +23,18 @@ public interface Representable<C> {
      */
     void load(C context, RawNode node);
 
+    /**
+     * Load the next value from the given reader
+     * in the provided context.
+     *
+     * By default this materializes the value into
+     * a node tree and calls {@link #load(Object, RawNode)}.
+     *
+     * @param context The context.
+     * @param reader The reader.
+     */
+    default void load(C context, RawReader reader) {
+        load(context, reader.readValue());
+    }
+
 }
@@ -1,8 +1,8 @@
 package net.orbyfied.aspen.raw.format;
 
-import net.orbyfied.aspen.raw.nodes.RawScalarNode;
-import net.orbyfied.aspen.raw.nodes.RawUndefinedNode;
-import net.orbyfied.aspen.raw.nodes.RawValueNode;
+import net.orbyfied.aspen.raw.nodes.*;
+
+import net.orbyfied.aspen.util.NumberUtil;
 
 import java.util.Objects;
 
@@ -16,17 +16,23 @@ import java.util.Objects;
  *   - undefined     = undefined
  *   - { empty }     = undefined
  *   - [0-9]+        = long
- *   - [0-9\\.]+     = double
+ *   - [0-9\\.eE]+   = double
  *   - (true)(false) = boolean
  *   - *             = string
+ *   (see {@link ScalarLexer} for the exact number grammar)
  *
  *   Style(Single Quoted):
  *   - * = string
  *
  *   Style(Double Quoted):
  *   - * = string
+ *
+ * When loading with an expected type, plain scalars
+ * are only decoded as that type: strings skip number
+ * lexing, numbers are boxed to the expected number type
+ * and booleans only match the boolean literals.
  */
-@SuppressWarnings("rawtypes")
+@SuppressWarnings({ "rawtypes", "unchecked" })
 public final class JLSSFormat implements StringScalarFormat {
 
     // the style to use for
@@ -53,46 +59,112 @@ public final class JLSSFormat implements StringScalarFormat {
                 (string.equals("undefined") || string.isBlank()))
             return RawUndefinedNode.undefined();
 
-        return new RawScalarNode<>(switch (style) {
+        return switch (style) {
             case PLAIN -> // switch literals
                     switch (string) {
-                        case "null" -> null;
-                        case "true" -> true;
-                        case "false" -> false;
+                        case "null" -> RawScalarNode.nullNode();
+                        case "true" -> RawScalarNode.of(true);
+                        case "false" -> RawScalarNode.of(false);
                         default -> {
-                            try {
-                                double numResult = Double.parseDouble(string);
-                                if (numResult % 1 == 0) // produce long if an integer
-                                    yield (long) numResult;
-                                else yield numResult;
-                            } catch (NumberFormatException ignored) { }
+                            RawScalarNode<?> number = ScalarLexer.lexNumber(string);
+                            if (number != null)
+                                yield number;
 
                             // yield string literal
-                            yield string;
+                            yield RawScalarNode.of(string);
                         }
                     };
 
-            case SINGLE_QUOTED, DOUBLE_QUOTED -> string;
-        });
+            case SINGLE_QUOTED, DOUBLE_QUOTED -> RawScalarNode.of(string);
+        };
+    }
+
+    @Override
+    public RawValueNode<?> load(StringScalarRepresentation repr, Class<?> expectedType) {
+        String string = repr.string();
+        if (expectedType == null || expectedType == Object.class ||
+                string == null || repr.style() != ScalarStyle.PLAIN)
+            return load(repr);
+
+        // null and undefined are valid for any type
+        if (string.equals("null"))
+            return RawScalarNode.nullNode();
+        if (string.equals("undefined") || string.isBlank())
+            return RawUndefinedNode.undefined();
+
+        if (expectedType == String.class || expectedType == CharSequence.class)
+            return RawScalarNode.of(string);
+        if (expectedType == Boolean.class || expectedType == boolean.class) {
+            if (string.equals("true")) return RawScalarNode.of(true);
+            if (string.equals("false")) return RawScalarNode.of(false);
+            return load(repr);
+        }
+
+        if (Number.class.isAssignableFrom(expectedType)) {
+            RawScalarNode<?> number = ScalarLexer.lexNumber(string);
+            if (number == null)
+                return load(repr);
+            return castNumber(number, expectedType);
+        }
+
+        return load(repr);
+    }
+
+    // convert the given lexed number node to
+    // the expected boxed number type
+    static RawScalarNode<?> castNumber(RawScalarNode<?> number, Class<?> expectedType) {
+        if (expectedType == Long.class || expectedType == Number.class)
+            return number;
+        if (expectedType == Double.class)
+            return number instanceof RawLongNode longNode ? RawScalarNode.of((double) longNode.getLong()) : number;
+        if (expectedType == Integer.class || expectedType == Short.class ||
+                expectedType == Byte.class || expectedType == Float.class) {
+            try {
+                Number value = number instanceof RawLongNode longNode ?
+                        NumberUtil.boxLong(longNode.getLong(), (Class<Number>) expectedType) :
+                        NumberUtil.boxDouble(number.doubleValue(), (Class<Number>) expectedType);
+                return new RawScalarNode<>(value);
+            } catch (ArithmeticException e) {
+                // keep the lexed value so the
+                // property reports the value error
+                return number;
+            }
+        }
+
+        return number;
     }
 
     @Override
     public StringScalarRepresentation dump(RawValueNode<?> node) {
         if (node instanceof RawUndefinedNode)
             return new StringScalarRepresentation("undefined", ScalarStyle.PLAIN);
+
+        // primitive nodes
+        if (node instanceof RawLongNode longNode)
+            return new StringScalarRepresentation(Long.toString(longNode.getLong()), ScalarStyle.PLAIN);
+        if (node instanceof RawDoubleNode doubleNode)
+            return dumpDouble(doubleNode.getDouble());
+        if (node instanceof RawBooleanNode booleanNode)
+            return new StringScalarRepresentation(Boolean.toString(booleanNode.getBoolean()), ScalarStyle.PLAIN);
+        if (node instanceof RawStringNode stringNode && stringNode.getString() != null)
+            return new StringScalarRepresentation(stringNode.getString(), stringDumpStyle);
+
         Object in = ((RawScalarNode)node).getValue();
         if (in == null)
             return new StringScalarRepresentation("null", ScalarStyle.PLAIN);
         if (in instanceof Boolean bool)
             return new StringScalarRepresentation("" + bool, ScalarStyle.PLAIN);
-        if (in instanceof Number number) {
-            double d = number.doubleValue();
-            if (d % 1 == 0)
-                return new StringScalarRepresentation(Long.toString((long)d), ScalarStyle.PLAIN);
-            else
-                return new StringScalarRepresentation(Double.toString(d), ScalarStyle.PLAIN);
-        }
+        if (in instanceof Long || in instanceof Integer || in instanceof Short || in instanceof Byte)
+            return new StringScalarRepresentation(in.toString(), ScalarStyle.PLAIN);
+        if (in instanceof Number number)
+            return dumpDouble(number.doubleValue());
 
         return new StringScalarRepresentation(Objects.toString(in), stringDumpStyle);
     }
+
+    // dump the given floating point value
+    static StringScalarRepresentation dumpDouble(double d) {
+        return new StringScalarRepresentation(ScalarLexer.formatDouble(d), ScalarStyle.PLAIN);
+    }
+
 }
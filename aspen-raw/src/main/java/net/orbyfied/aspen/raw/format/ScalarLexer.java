@@ -0,0 +1,241 @@
+package net.orbyfied.aspen.raw.format;
+
+import net.orbyfied.aspen.raw.nodes.RawScalarNode;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Classifies plain scalars and parses and formats
+ * numbers without throwing exceptions.
+ *
+ * Numbers:
+ *   - [+-]?[0-9]+                          = long, exact, or double on overflow
+ *   - [+-]?([0-9]+.[0-9]*|.[0-9]+)([eE][+-]?[0-9]+)?
+ *     [+-]?[0-9]+[eE][+-]?[0-9]+           = double
+ *   - [+-]?Infinity, NaN                   = double
+ *
+ * Formatted doubles always contain a '.', 'E', or are
+ * one of the special values, so they load back as doubles.
+ */
+public final class ScalarLexer {
+
+    private ScalarLexer() { }
+
+    // the exactly representable powers of ten
+    static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+            1e21, 1e22
+    };
+
+    // the largest integer below which all
+    // integers are exactly representable as doubles
+    static final long MAX_EXACT = 1L << 53;
+
+    /**
+     * Lexes the given plain scalar as a number.
+     *
+     * @param str The string.
+     * @return The long or double node, or null if the string is not a number.
+     */
+    public static RawScalarNode<?> lexNumber(String str) {
+        final int len = str.length();
+        if (len == 0)
+            return null;
+
+        int i = 0;
+        char c = str.charAt(0);
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            if (++i == len)
+                return null;
+            c = str.charAt(i);
+        }
+
+        // special values
+        if (c == 'I')
+            return str.regionMatches(i, "Infinity", 0, 8) && i + 8 == len ?
+                    RawScalarNode.of(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY) : null;
+        if (c == 'N')
+            return i == 0 && str.equals("NaN") ? RawScalarNode.of(Double.NaN) : null;
+
+        // integer digits, accumulated negatively
+        // so Long.MIN_VALUE can be represented
+        final int intStart = i;
+        long value = 0;
+        boolean overflow = false;
+        for (; i < len; i++) {
+            c = str.charAt(i);
+            if (c < '0' || c > '9')
+                break;
+            int digit = c - '0';
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                overflow = true;
+            } else {
+                value = value * 10 - digit;
+            }
+        }
+
+        final int intDigits = i - intStart;
+
+        // fast path: plain decimal integer
+        if (i == len) {
+            if (intDigits == 0)
+                return null;
+            if (!overflow && (negative || value != Long.MIN_VALUE))
+                return RawScalarNode.of(negative ? value : -value);
+            return RawScalarNode.of(Double.parseDouble(str));
+        }
+
+        // fraction
+        int fracDigits = 0;
+        long mantissa = -value;
+        boolean exactMantissa = !overflow && intDigits <= 15;
+        int sigDigits = intDigits;
+        if (c == '.') {
+            for (i++; i < len; i++) {
+                c = str.charAt(i);
+                if (c < '0' || c > '9')
+                    break;
+                fracDigits++;
+                if (++sigDigits > 15) {
+                    exactMantissa = false;
+                } else {
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+            }
+
+            if (intDigits == 0 && fracDigits == 0)
+                return null;
+        } else if (intDigits == 0) {
+            return null;
+        }
+
+        // exponent
+        boolean hasExponent = false;
+        if (i < len && (c == 'e' || c == 'E')) {
+            hasExponent = true;
+            if (++i < len && ((c = str.charAt(i)) == '-' || c == '+'))
+                i++;
+            int expStart = i;
+            for (; i < len; i++) {
+                c = str.charAt(i);
+                if (c < '0' || c > '9')
+                    break;
+            }
+
+            if (i == expStart)
+                return null;
+        }
+
+        if (i != len)
+            return null;
+
+        // fast path: the mantissa and the power of ten are
+        // exact, so a single division is correctly rounded
+        if (!hasExponent && exactMantissa && fracDigits <= 22) {
+            double d = mantissa / POW10[fracDigits];
+            return RawScalarNode.of(negative ? -d : d);
+        }
+
+        // the syntax was validated, so this does not throw
+        return RawScalarNode.of(Double.parseDouble(str));
+    }
+
+    /**
+     * Formats the given double with the shortest
+     * decimal representation which parses back to
+     * exactly the same value.
+     *
+     * @param d The value.
+     * @return The string.
+     */
+    public static String formatDouble(double d) {
+        if (Double.isNaN(d))
+            return "NaN";
+        if (Double.isInfinite(d))
+            return d > 0 ? "Infinity" : "-Infinity";
+        if (d == 0)
+            return (1 / d < 0) ? "-0.0" : "0.0";
+
+        double abs = Math.abs(d);
+
+        // fast path: find the fewest fraction digits for
+        // which the scaled value is an exactly representable
+        // integer that divides back to the same value
+        if (abs >= 1e-3 && abs < 1e7) {
+            for (int k = 0; k < POW10.length; k++) {
+                double scaled = abs * POW10[k];
+                if (scaled >= MAX_EXACT)
+                    break;
+                long m = Math.round(scaled);
+                if (m / POW10[k] == abs)
+                    return formatPlain(d < 0, Long.toString(m), k);
+            }
+        }
+
+        // find the shortest precision which round trips
+        BigDecimal exact = new BigDecimal(abs);
+        for (int precision = 1; precision <= 17; precision++) {
+            BigDecimal rounded = exact.round(new MathContext(precision, RoundingMode.HALF_EVEN));
+            if (rounded.doubleValue() == abs)
+                return formatDecimal(d < 0, rounded.stripTrailingZeros());
+        }
+
+        return Double.toString(d);
+    }
+
+    // format the digits with the given
+    // amount of fraction digits
+    static String formatPlain(boolean negative, String digits, int fracDigits) {
+        StringBuilder b = new StringBuilder(digits.length() + 4);
+        if (negative)
+            b.append('-');
+        if (fracDigits == 0) {
+            b.append(digits).append(".0");
+        } else if (digits.length() > fracDigits) {
+            int point = digits.length() - fracDigits;
+            b.append(digits, 0, point).append('.').append(digits, point, digits.length());
+        } else {
+            b.append("0.");
+            for (int i = digits.length(); i < fracDigits; i++)
+                b.append('0');
+            b.append(digits);
+        }
+
+        return b.toString();
+    }
+
+    // format the given positive decimal in plain
+    // notation for moderate exponents, scientific otherwise
+    static String formatDecimal(boolean negative, BigDecimal value) {
+        String digits = value.unscaledValue().toString();
+        int exponent = digits.length() - 1 - value.scale();
+        if (exponent >= -3 && exponent < 7) {
+            int fracDigits = Math.max(0, value.scale());
+            if (value.scale() < 0) {
+                StringBuilder b = new StringBuilder(digits);
+                for (int i = 0; i < -value.scale(); i++)
+                    b.append('0');
+                digits = b.toString();
+            }
+
+            return formatPlain(negative, digits, fracDigits);
+        }
+
+        StringBuilder b = new StringBuilder(digits.length() + 8);
+        if (negative)
+            b.append('-');
+        b.append(digits.charAt(0)).append('.');
+        if (digits.length() > 1)
+            b.append(digits, 1, digits.length());
+        else
+            b.append('0');
+        b.append('E').append(exponent);
+        return b.toString();
+    }
+
+}
@@ -20,6 +20,24 @@ public interface StringScalarFormat {
      */
     RawValueNode<?> load(StringScalarRepresentation representation);
 
+    /**
+     * Load a scalar value using the given string
+     * and style, decoding it directly into the given
+     * expected type where possible instead of guessing
+     * the type from the string.
+     *
+     * If the scalar can not be decoded as the
+     * expected type it is loaded like {@link #load(StringScalarRepresentation)},
+     * so the consumer can report the mismatch.
+     *
+     * @param representation The read representation.
+     * @param expectedType The expected value type, or null if unknown.
+     * @return The node.
+     */
+    default RawValueNode<?> load(StringScalarRepresentation representation, Class<?> expectedType) {
+        return load(representation);
+    }
+
     /**
      * Dump the value of the given scalar into
      * an output string and style to write.
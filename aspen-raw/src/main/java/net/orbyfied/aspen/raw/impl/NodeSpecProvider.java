@@ -4,6 +4,7 @@ import net.orbyfied.aspen.raw.RawIOContext;
 import net.orbyfied.aspen.raw.RawProvider;
 import net.orbyfied.aspen.raw.nodes.RawNode;
 import net.orbyfied.aspen.raw.nodes.RawUndefinedNode;
+import net.orbyfied.aspen.raw.source.FileInfo;
 import net.orbyfied.aspen.raw.source.ReadNodeSource;
 
 import java.io.Reader;
@@ -40,6 +41,16 @@ public abstract class NodeSpecProvider<IC extends RawIOContext, N> implements Ra
             transformersByRaw.computeIfAbsent(rClass, __ -> new ArrayList<>()).add(transformer);
     }
 
+    /**
+     * Check if any transformers are registered
+     * on this provider.
+     *
+     * @return True/false.
+     */
+    public boolean hasTransformers() {
+        return !transformersByNative.isEmpty() || !transformersByRaw.isEmpty();
+    }
+
     /* IO */
     protected abstract void writeTree(IC context, N node, Writer writer);
     protected abstract N readTree(IC context, Reader reader);
@@ -101,8 +112,9 @@ public abstract class NodeSpecProvider<IC extends RawIOContext, N> implements Ra
 
         if (result.source() instanceof ReadNodeSource source) {
             String fn = context.fileName();
-            if (fn != null) {
-                source.location().file().setName(context.fileName());
+            FileInfo file = source.file();
+            if (fn != null && file != null && !fn.equals(file.getName())) {
+                file.setName(fn);
             }
         }
 
@@ -0,0 +1,141 @@
+package net.orbyfied.aspen.raw.nodes;
+
+/**
+ * An open-addressing hash index from keys to
+ * the pair nodes of an {@link RawObjectNode}, using
+ * linear probing and backward shift deletion so no
+ * tombstones are left behind.
+ *
+ * The order of the entries is kept by the node
+ * list of the object, not by this index.
+ */
+final class ObjectKeyIndex {
+
+    // the minimum capacity, must be a power of two
+    static final int MIN_CAPACITY = 8;
+
+    // the keys and pairs by slot
+    String[] keys;
+    RawPairNode[] pairs;
+
+    // the amount of keys in the index
+    int size;
+
+    ObjectKeyIndex(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2)
+            capacity <<= 1;
+        keys = new String[capacity];
+        pairs = new RawPairNode[capacity];
+    }
+
+    // spread the hash bits, the
+    // capacity is always a power of two
+    static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    int slot(String key) {
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        String k;
+        while ((k = keys[i]) != null) {
+            if (k.equals(key))
+                return i;
+            i = (i + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    RawPairNode get(String key) {
+        int i = slot(key);
+        return i == -1 ? null : pairs[i];
+    }
+
+    /**
+     * Put the pair for the given key.
+     *
+     * @return The pair previously indexed by the key or null.
+     */
+    RawPairNode put(String key, RawPairNode pair) {
+        if ((size + 1) * 2 > keys.length)
+            resize(keys.length << 1);
+
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        String k;
+        while ((k = keys[i]) != null) {
+            if (k.equals(key)) {
+                RawPairNode old = pairs[i];
+                pairs[i] = pair;
+                return old;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key;
+        pairs[i] = pair;
+        size++;
+        return null;
+    }
+
+    /**
+     * Remove the given key.
+     *
+     * @return The removed pair or null.
+     */
+    RawPairNode remove(String key) {
+        int i = slot(key);
+        if (i == -1)
+            return null;
+        RawPairNode old = pairs[i];
+
+        // shift following entries of the
+        // cluster back into the gap
+        int mask = keys.length - 1;
+        int gap = i;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            String k = keys[j];
+            if (k == null)
+                break;
+            int home = hash(k) & mask;
+            // move if the home slot is not
+            // cyclically in (gap, j]
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = k;
+                pairs[gap] = pairs[j];
+                gap = j;
+            }
+        }
+
+        keys[gap] = null;
+        pairs[gap] = null;
+        size--;
+        return old;
+    }
+
+    void resize(int capacity) {
+        String[] oldKeys = keys;
+        RawPairNode[] oldPairs = pairs;
+        keys = new String[capacity];
+        pairs = new RawPairNode[capacity];
+
+        int mask = capacity - 1;
+        for (int s = 0; s < oldKeys.length; s++) {
+            String k = oldKeys[s];
+            if (k == null)
+                continue;
+            int i = hash(k) & mask;
+            while (keys[i] != null)
+                i = (i + 1) & mask;
+            keys[i] = k;
+            pairs[i] = oldPairs[s];
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package net.orbyfied.aspen.raw.nodes;
+
+/**
+ * A scalar node holding a primitive {@code boolean},
+ * which is only boxed when accessed through {@link #getValue()}.
+ */
+@RawNodeTypeDesc(typeName = "boolean")
+public class RawBooleanNode extends RawScalarNode<Boolean> {
+
+    // the primitive value
+    boolean booleanValue;
+
+    public RawBooleanNode(boolean value) {
+        this.booleanValue = value;
+    }
+
+    public boolean getBoolean() {
+        return booleanValue;
+    }
+
+    public RawBooleanNode setBoolean(boolean value) {
+        this.booleanValue = value;
+        return this;
+    }
+
+    /**
+     * Set the value of this node, which can not be null
+     * as the value is primitive. Use {@link RawScalarNode#nullNode()}
+     * for null values instead.
+     *
+     * @param value The value.
+     * @return This.
+     * @throws IllegalArgumentException If the value is null.
+     */
+    @Override
+    public RawBooleanNode setValue(Boolean value) {
+        if (value == null)
+            throw new IllegalArgumentException("can not set null on a primitive boolean node, use a null scalar node");
+        this.booleanValue = value;
+        return this;
+    }
+
+    @Override
+    public Boolean getValue() {
+        return booleanValue;
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+
+    @Override
+    public boolean isBoolean() {
+        return true;
+    }
+
+    @Override
+    public boolean booleanValue() {
+        return booleanValue;
+    }
+
+    @Override
+    public String getDataString() {
+        return Boolean.toString(booleanValue);
+    }
+
+}
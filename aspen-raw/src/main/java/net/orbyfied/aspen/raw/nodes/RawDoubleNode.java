@@ -0,0 +1,73 @@
+package net.orbyfied.aspen.raw.nodes;
+
+/**
+ * A scalar node holding a primitive {@code double},
+ * which is only boxed when accessed through {@link #getValue()}.
+ */
+@RawNodeTypeDesc(typeName = "double")
+public class RawDoubleNode extends RawScalarNode<Double> {
+
+    // the primitive value
+    double doubleValue;
+
+    public RawDoubleNode(double value) {
+        this.doubleValue = value;
+    }
+
+    public double getDouble() {
+        return doubleValue;
+    }
+
+    public RawDoubleNode setDouble(double value) {
+        this.doubleValue = value;
+        return this;
+    }
+
+    /**
+     * Set the value of this node, which can not be null
+     * as the value is primitive. Use {@link RawScalarNode#nullNode()}
+     * for null values instead.
+     *
+     * @param value The value.
+     * @return This.
+     * @throws IllegalArgumentException If the value is null.
+     */
+    @Override
+    public RawDoubleNode setValue(Double value) {
+        if (value == null)
+            throw new IllegalArgumentException("can not set null on a primitive double node, use a null scalar node");
+        this.doubleValue = value;
+        return this;
+    }
+
+    @Override
+    public Double getValue() {
+        return doubleValue;
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+
+    @Override
+    public boolean isNumber() {
+        return true;
+    }
+
+    @Override
+    public long longValue() {
+        return (long) doubleValue;
+    }
+
+    @Override
+    public double doubleValue() {
+        return doubleValue;
+    }
+
+    @Override
+    public String getDataString() {
+        return Double.toString(doubleValue);
+    }
+
+}
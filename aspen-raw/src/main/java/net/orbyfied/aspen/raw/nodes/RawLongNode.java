@@ -0,0 +1,73 @@
+package net.orbyfied.aspen.raw.nodes;
+
+/**
+ * A scalar node holding a primitive {@code long},
+ * which is only boxed when accessed through {@link #getValue()}.
+ */
+@RawNodeTypeDesc(typeName = "long")
+public class RawLongNode extends RawScalarNode<Long> {
+
+    // the primitive value
+    long longValue;
+
+    public RawLongNode(long value) {
+        this.longValue = value;
+    }
+
+    public long getLong() {
+        return longValue;
+    }
+
+    public RawLongNode setLong(long value) {
+        this.longValue = value;
+        return this;
+    }
+
+    /**
+     * Set the value of this node, which can not be null
+     * as the value is primitive. Use {@link RawScalarNode#nullNode()}
+     * for null values instead.
+     *
+     * @param value The value.
+     * @return This.
+     * @throws IllegalArgumentException If the value is null.
+     */
+    @Override
+    public RawLongNode setValue(Long value) {
+        if (value == null)
+            throw new IllegalArgumentException("can not set null on a primitive long node, use a null scalar node");
+        this.longValue = value;
+        return this;
+    }
+
+    @Override
+    public Long getValue() {
+        return longValue;
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+
+    @Override
+    public boolean isNumber() {
+        return true;
+    }
+
+    @Override
+    public long longValue() {
+        return longValue;
+    }
+
+    @Override
+    public double doubleValue() {
+        return longValue;
+    }
+
+    @Override
+    public String getDataString() {
+        return Long.toString(longValue);
+    }
+
+}
@@ -98,17 +98,32 @@ public abstract class RawNode {
         Comments
      */
 
-    // the comment lines
-    List<String> blockComment = new ArrayList<>();
-    List<String> inLineComment = new ArrayList<>();
-    List<String> endComment = new ArrayList<>();
+    /**
+     * The comment lines of a node, only
+     * allocated once a comment is set.
+     */
+    static final class Comments {
+        List<String> block;
+        List<String> inLine;
+        List<String> end;
+    }
+
+    // the comments, null if none were set
+    Comments comments;
+
+    Comments comments() {
+        Comments c = comments;
+        if (c == null)
+            comments = c = new Comments();
+        return c;
+    }
 
     public List<String> blockCommentLines() {
-        return blockComment;
+        return comments != null ? comments.block : null;
     }
 
     public RawNode blockCommentLines(List<String> blockComment) {
-        this.blockComment = blockComment;
+        comments().block = blockComment;
         return this;
     }
 
@@ -117,11 +132,11 @@ public abstract class RawNode {
     }
 
     public List<String> inLineCommentLines() {
-        return inLineComment;
+        return comments != null ? comments.inLine : null;
     }
 
     public RawNode inLineCommentLines(List<String> list) {
-        this.inLineComment = list;
+        comments().inLine = list;
         return this;
     }
 
@@ -130,11 +145,11 @@ public abstract class RawNode {
     }
 
     public List<String> endCommentLines() {
-        return endComment;
+        return comments != null ? comments.end : null;
     }
 
     public RawNode endCommentLines(List<String> list) {
-        this.endComment = list;
+        comments().end = list;
         return this;
     }
 
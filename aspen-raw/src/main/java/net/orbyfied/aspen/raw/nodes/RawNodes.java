@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -47,7 +48,53 @@ public class RawNodes {
             return new RawObjectNode(list);
         }
 
-        return new RawScalarNode<>(value);
+        return RawScalarNode.ofValue(value);
+    }
+
+    /**
+     * Check whether the given nodes have the same content,
+     * ignoring sources, comments and the order of object keys.
+     *
+     * @param a The first node, may be null.
+     * @param b The second node, may be null.
+     * @return Whether the contents are equal.
+     */
+    public static boolean contentEquals(RawNode a, RawNode b) {
+        if (a == b)
+            return true;
+        if (a == null || b == null || a.getClass() != b.getClass())
+            return false;
+
+        if (a instanceof RawObjectNode objectA) {
+            RawObjectNode objectB = (RawObjectNode) b;
+            if (objectA.getSize() != objectB.getSize())
+                return false;
+            for (RawNode element : objectA.getNodes()) {
+                RawPairNode pair = (RawPairNode) element;
+                RawPairNode other = objectB.getPair(RawObjectNode.keyOf(pair));
+                if (other == null || !contentEquals(pair.getValue(), other.getValue()))
+                    return false;
+            }
+
+            return true;
+        }
+
+        if (a instanceof RawListNode listA) {
+            RawListNode listB = (RawListNode) b;
+            int size = listA.getSize();
+            if (size != listB.getSize())
+                return false;
+            for (int i = 0; i < size; i++)
+                if (!contentEquals(listA.getElement(i), listB.getElement(i)))
+                    return false;
+            return true;
+        }
+
+        if (a instanceof RawUndefinedNode)
+            return true;
+        if (a instanceof RawScalarNode scalarA)
+            return Objects.equals(scalarA.getValue(), ((RawScalarNode) b).getValue());
+        return false;
     }
 
     public static Section<String> nodeToObjectSection(RawObjectNode objectNode) {
@@ -77,7 +124,7 @@ public class RawNodes {
 
         @Override
         public <T> T get(String key) {
-            return (T) node.toValue();
+            return (T) node.toValue().get(key);
         }
 
         @Override
@@ -113,12 +160,12 @@ public class RawNodes {
 
         @Override
         public Section<String> object(String key) {
-            return nodeToObjectSection(node.toMap().get(key).expect(RawObjectNode.class));
+            return nodeToObjectSection(node.get(key).expect(RawObjectNode.class));
         }
 
         @Override
         public Section<Integer> list(String key) {
-            return nodeToListSection(node.toMap().get(key).expect(RawListNode.class));
+            return nodeToListSection(node.get(key).expect(RawListNode.class));
         }
     }
 
@@ -4,13 +4,38 @@ import java.util.*;
 
 /**
  * A node which holds a section, object or just map.
+ *
+ * The pairs are kept in insertion order in the node
+ * list and indexed by key in an open-addressing hash
+ * index, which is updated in place by {@link #putEntry(Object, RawNode)},
+ * {@link #addElement(RawNode)} and {@link #remove(String)}.
+ * Modifying the list from {@link #getNodes()} directly
+ * causes the index to be rebuilt on the next lookup.
+ * A list passed to the constructor must not be modified
+ * afterwards other than through this node.
  */
 @SuppressWarnings("unchecked")
 @RawNodeTypeDesc(typeName = "object")
 public class RawObjectNode extends RawSeqNode<Map<String, Object>> {
 
-    // the cached map
-    LinkedHashMap<String, RawNode> cachedMap;
+    // get the key of the given pair as a string
+    static String keyOf(RawPairNode pair) {
+        if (!(pair.getKey() instanceof RawScalarNode<?> keyNode))
+            throw new IllegalArgumentException("Unsupported object key " + pair.getKey());
+        return String.valueOf(keyNode.getValue());
+    }
+
+    ////////////////////////////////////////
+
+    // the key index, lazily built
+    ObjectKeyIndex index;
+
+    // the live map view
+    Map<String, RawNode> mapView;
+
+    // the node list view which drops
+    // the index on every modification
+    List<RawNode> nodesView;
 
     public RawObjectNode() {
 
@@ -20,30 +45,156 @@ public class RawObjectNode extends RawSeqNode<Map<String, Object>> {
         super(value);
     }
 
+    // get the up-to-date index
+    ObjectKeyIndex index() {
+        if (index == null) {
+            ObjectKeyIndex newIndex = new ObjectKeyIndex(nodes.size());
+            for (RawNode node : nodes) {
+                if (node instanceof RawPairNode pairNode) {
+                    newIndex.put(keyOf(pairNode), pairNode);
+                }
+            }
+
+            index = newIndex;
+        }
+
+        return index;
+    }
+
+    // index the nodes appended to
+    // the list since the given size
+    void indexAppended(int from) {
+        if (index == null)
+            return; // built on next lookup
+        for (int i = from; i < nodes.size(); i++) {
+            if (nodes.get(i) instanceof RawPairNode pairNode) {
+                index.put(keyOf(pairNode), pairNode);
+            }
+        }
+    }
+
+    /**
+     * Get a modifiable view of the node list, every
+     * modification through it drops the key index.
+     *
+     * @return The node list.
+     */
+    @Override
+    public List<RawNode> getNodes() {
+        if (nodesView == null)
+            nodesView = new NodesView();
+        return nodesView;
+    }
+
+    /**
+     * Get the pair with the given key.
+     *
+     * @param key The key.
+     * @return The pair or null if absent.
+     */
+    public RawPairNode getPair(String key) {
+        return index().get(key);
+    }
+
+    /**
+     * Get the value with the given key.
+     *
+     * @param key The key.
+     * @return The value node or null if absent.
+     */
+    public RawNode get(String key) {
+        RawPairNode pairNode = index().get(key);
+        return pairNode != null ? pairNode.getValue() : null;
+    }
+
+    public boolean containsKey(String key) {
+        return index().get(key) != null;
+    }
+
+    /**
+     * Remove the entry with the given key.
+     *
+     * @param key The key.
+     * @return The removed value node or null if absent.
+     */
+    public RawNode remove(String key) {
+        ObjectKeyIndex index = index();
+        RawPairNode pairNode = index.remove(key);
+        if (pairNode == null)
+            return null;
+
+        // also drop pairs shadowed
+        // by the indexed one
+        nodes.removeIf(node -> node instanceof RawPairNode p && (p == pairNode || keyOf(p).equals(key)));
+        invalidateCache();
+        return pairNode.getValue();
+    }
+
     public void toMap(Map<String, RawNode> map) {
         for (RawNode node : nodes) {
             // check for tuple/pair
             if (node instanceof RawPairNode pairNode) {
-                map.put(((RawScalarNode<String>)pairNode.getKey()).getValue(),
-                        pairNode.getValue());
+                map.put(keyOf(pairNode), pairNode.getValue());
             }
         }
     }
 
+    /**
+     * Get an unmodifiable live map view
+     * of the entries of this object.
+     *
+     * @return The map view.
+     */
     public Map<String, RawNode> toMap() {
-        if (cachedMap == null) {
-            cachedMap = new LinkedHashMap<>();
-            toMap(cachedMap);
-        }
-
-        return cachedMap;
+        if (mapView == null)
+            mapView = new MapView();
+        return mapView;
     }
 
+    /**
+     * Set the value for the given key, replacing
+     * the value of an existing entry in place.
+     *
+     * @param key The key.
+     * @param node The value node.
+     */
     public void putEntry(Object key, RawNode node) {
-        nodes.add(new RawPairNode(new RawScalarNode<>(key), node));
+        String k = String.valueOf(key);
+        ObjectKeyIndex index = index();
+        RawPairNode pairNode = index.get(k);
+        if (pairNode != null) {
+            pairNode.setValue(node);
+        } else {
+            pairNode = new RawPairNode(new RawScalarNode<>(key), node);
+            nodes.add(pairNode);
+            index.put(k, pairNode);
+        }
+
         invalidateCache();
     }
 
+    @Override
+    public RawSeqNode<Map<String, Object>> addElement(RawNode elem) {
+        int from = nodes.size();
+        super.addElement(elem);
+        indexAppended(from);
+        return this;
+    }
+
+    @Override
+    public RawSeqNode<Map<String, Object>> setElement(int key, RawNode elem) {
+        super.setElement(key, elem);
+        index = null;
+        return this;
+    }
+
+    @Override
+    public void addAll(RawSeqNode<Map<String, Object>> node) {
+        int from = nodes.size();
+        super.addAll(node);
+        indexAppended(from);
+    }
+
     public RawObjectNode merge(RawSeqNode<?> node) {
         List<RawNode> nodes = new ArrayList<>(this.nodes);
         nodes.addAll(node.nodes);
@@ -65,4 +216,99 @@ public class RawObjectNode extends RawSeqNode<Map<String, Object>> {
         return map;
     }
 
+    /**
+     * The node list view, which drops the index
+     * and cached value on every modification.
+     */
+    class NodesView extends AbstractList<RawNode> {
+
+        // drop the index after a modification
+        void modified() {
+            index = null;
+            invalidateCache();
+        }
+
+        @Override
+        public RawNode get(int i) {
+            return nodes.get(i);
+        }
+
+        @Override
+        public int size() {
+            return nodes.size();
+        }
+
+        @Override
+        public RawNode set(int i, RawNode node) {
+            RawNode old = nodes.set(i, node);
+            modified();
+            return old;
+        }
+
+        @Override
+        public void add(int i, RawNode node) {
+            nodes.add(i, node);
+            modified();
+        }
+
+        @Override
+        public RawNode remove(int i) {
+            RawNode old = nodes.remove(i);
+            modified();
+            return old;
+        }
+
+        @Override
+        protected void removeRange(int from, int to) {
+            nodes.subList(from, to).clear();
+            modified();
+        }
+
+    }
+
+    /**
+     * The live map view backed by the index.
+     */
+    class MapView extends AbstractMap<String, RawNode> {
+
+        @Override
+        public RawNode get(Object key) {
+            return key instanceof String k ? RawObjectNode.this.get(k) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String k && RawObjectNode.this.containsKey(k);
+        }
+
+        @Override
+        public int size() {
+            return index().size;
+        }
+
+        @Override
+        public Set<Entry<String, RawNode>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return index().size;
+                }
+
+                @Override
+                public Iterator<Entry<String, RawNode>> iterator() {
+                    ObjectKeyIndex index = index();
+                    return nodes.stream()
+                            .filter(node -> node instanceof RawPairNode pairNode &&
+                                    index.get(keyOf(pairNode)) == pairNode)
+                            .map(node -> {
+                                RawPairNode pairNode = (RawPairNode) node;
+                                return (Entry<String, RawNode>) new SimpleImmutableEntry<>(keyOf(pairNode), pairNode.getValue());
+                            })
+                            .iterator();
+                }
+            };
+        }
+
+    }
+
 }
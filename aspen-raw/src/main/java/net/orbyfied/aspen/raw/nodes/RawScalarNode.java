@@ -19,6 +19,44 @@ public class RawScalarNode<T> extends RawValueNode<T> {
         return RawUndefinedNode.undefined();
     }
 
+    public static RawLongNode of(long value) {
+        return new RawLongNode(value);
+    }
+
+    public static RawDoubleNode of(double value) {
+        return new RawDoubleNode(value);
+    }
+
+    public static RawBooleanNode of(boolean value) {
+        return new RawBooleanNode(value);
+    }
+
+    public static RawStringNode of(String value) {
+        return new RawStringNode(value);
+    }
+
+    /**
+     * Creates the most specific scalar node for
+     * the given value, unboxing numbers and booleans.
+     *
+     * @param value The value.
+     * @return The node.
+     */
+    public static RawScalarNode<?> ofValue(Object value) {
+        if (value == null)
+            return nullNode();
+        if (value instanceof String str)
+            return new RawStringNode(str);
+        if (value instanceof Long || value instanceof Integer ||
+                value instanceof Short || value instanceof Byte)
+            return new RawLongNode(((Number) value).longValue());
+        if (value instanceof Double || value instanceof Float)
+            return new RawDoubleNode(((Number) value).doubleValue());
+        if (value instanceof Boolean bool)
+            return new RawBooleanNode(bool);
+        return new RawScalarNode<>(value);
+    }
+
     /////////////////////////////////////
 
     // the value of the node
@@ -46,21 +84,65 @@ public class RawScalarNode<T> extends RawValueNode<T> {
 
     @SuppressWarnings("unchecked")
     public <T2> T2 getValueAs() {
-        return (T2) value;
+        return (T2) getValue();
     }
 
     public <T2> RawScalarNode<T2> expectValue(Class<T2> typeClass) {
+        Object value = getValue();
         if (!typeClass.isInstance(value))
             throw new IllegalArgumentException("Value Error: expected " + typeClass + ", got " + (value == null ? "null" : value.getClass()));
         return (RawScalarNode<T2>) this;
     }
 
     public <T2> RawScalarNode<T2> expectValueNullable(Class<T2> typeClass) {
-        if (value == null)
+        if (isNull())
             return (RawScalarNode<T2>) this;
         return expectValue(typeClass);
     }
 
+    /*
+        Primitive Access
+
+        Overridden by the specialized nodes to
+        avoid boxing the value.
+     */
+
+    public boolean isNull() {
+        return value == null;
+    }
+
+    public boolean isNumber() {
+        return value instanceof Number;
+    }
+
+    public boolean isBoolean() {
+        return value instanceof Boolean;
+    }
+
+    /**
+     * Get the value as a long, only valid
+     * if {@link #isNumber()} is true.
+     */
+    public long longValue() {
+        return ((Number) value).longValue();
+    }
+
+    /**
+     * Get the value as a double, only valid
+     * if {@link #isNumber()} is true.
+     */
+    public double doubleValue() {
+        return ((Number) value).doubleValue();
+    }
+
+    /**
+     * Get the value as a boolean, only valid
+     * if {@link #isBoolean()} is true.
+     */
+    public boolean booleanValue() {
+        return (Boolean) value;
+    }
+
     public ScalarStyle getStyle() {
         return style;
     }
@@ -72,17 +154,17 @@ public class RawScalarNode<T> extends RawValueNode<T> {
 
     @Override
     public String getDataString() {
-        return Objects.toString(value);
+        return Objects.toString(getValue());
     }
 
     @Override
     protected T toValue0() {
-        return value;
+        return getValue();
     }
 
     @Override
     public T toValue() {
-        return value;
+        return getValue();
     }
 
 }
@@ -40,6 +40,7 @@ public abstract class RawSeqNode<V> extends RawValueNode<V> {
         boolean keyInRange = !(key < 0 || key >= size);
         if (keyInRange) {
             nodes.set(key, elem);
+            invalidateCache();
             return this;
         }
 
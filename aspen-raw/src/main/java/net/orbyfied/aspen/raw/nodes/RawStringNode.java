@@ -0,0 +1,17 @@
+package net.orbyfied.aspen.raw.nodes;
+
+/**
+ * A scalar node holding a string.
+ */
+@RawNodeTypeDesc(typeName = "string")
+public class RawStringNode extends RawScalarNode<String> {
+
+    public RawStringNode(String value) {
+        super(value);
+    }
+
+    public String getString() {
+        return value;
+    }
+
+}
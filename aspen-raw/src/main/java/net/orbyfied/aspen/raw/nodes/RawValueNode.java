@@ -15,8 +15,17 @@ public abstract class RawValueNode<V> extends RawNode {
 
     protected abstract V toValue0();
 
+    /**
+     * Get the value of this node, computed once
+     * and cached until {@link #invalidateCache()} is called.
+     *
+     * Mutations made through the methods of this node
+     * invalidate the cache, mutations of child nodes do not.
+     *
+     * @return The value.
+     */
     public V toValue() {
-        if (hasCachedValue) {
+        if (!hasCachedValue) {
             cachedValue = toValue0();
             hasCachedValue = true;
         }
@@ -28,7 +37,7 @@ public abstract class RawValueNode<V> extends RawNode {
      * Invalidate the cached data.
      */
     public void invalidateCache() {
-        hasCachedValue = true;
+        hasCachedValue = false;
         cachedValue = null;
     }
 
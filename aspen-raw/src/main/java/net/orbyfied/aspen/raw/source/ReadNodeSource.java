@@ -1,24 +1,82 @@
 package net.orbyfied.aspen.raw.source;
 
+/**
+ * The source of a node read from a file.
+ *
+ * The line and column are packed into a single
+ * {@code long} and the {@link FileInfo} is shared by
+ * all nodes read from the same file.
+ */
 public class ReadNodeSource implements NodeSource {
 
-    // the location in a file
-    FileLocation location;
+    // the packed value for an unknown position
+    static final long UNKNOWN = -1L;
+
+    static long pack(int line, int column) {
+        return ((long) line << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    ////////////////////////////////////
+
+    // the file read from
+    FileInfo file;
+
+    // the line in the high and the
+    // column in the low 32 bits
+    long position = UNKNOWN;
+
+    public ReadNodeSource() { }
+
+    public ReadNodeSource(FileInfo file, int line, int column) {
+        this.file = file;
+        this.position = pack(line, column);
+    }
 
     public ReadNodeSource location(FileLocation location) {
-        this.location = location;
+        if (location == null) {
+            this.file = null;
+            this.position = UNKNOWN;
+        } else {
+            this.file = location.file();
+            this.position = pack(location.line(), location.column());
+        }
+
         return this;
     }
 
+    /**
+     * Get the location in the file, this
+     * allocates a new location object.
+     *
+     * @return The location or null if unknown.
+     */
     public FileLocation location() {
-        return location;
+        if (position == UNKNOWN)
+            return null;
+        return new FileLocation(file, line(), column());
+    }
+
+    public boolean hasLocation() {
+        return position != UNKNOWN;
+    }
+
+    public FileInfo file() {
+        return file;
+    }
+
+    public int line() {
+        return (int) (position >> 32);
+    }
+
+    public int column() {
+        return (int) position;
     }
 
     @Override
     public String toPrettyString() {
-        if (location == null)
+        if (position == UNKNOWN)
             return "unknown read source";
-        return "file(" + location.file().getName() + ") line(" + location.line() + ") column(" + location.column() + ")";
+        return "file(" + (file != null ? file.getName() : null) + ") line(" + line() + ") column(" + column() + ")";
     }
 
 }
@@ -0,0 +1,134 @@
+package net.orbyfied.aspen.raw.stream;
+
+import net.orbyfied.aspen.raw.nodes.*;
+import net.orbyfied.aspen.raw.source.NodeSource;
+
+import java.io.Closeable;
+
+/**
+ * A pull reader over the structure of a document,
+ * which allows loading values without building the
+ * whole {@link RawNode} tree first.
+ *
+ * Values are either consumed token by token through
+ * {@link #next()} or materialized one at a time
+ * through {@link #readValue()}.
+ */
+public interface RawReader extends Closeable {
+
+    /**
+     * Advance to the next token.
+     *
+     * @return The token.
+     */
+    RawToken next();
+
+    /**
+     * Get the next token without advancing.
+     *
+     * @return The token.
+     */
+    RawToken peek();
+
+    /**
+     * Get the current key, only valid
+     * if the current token is {@link RawToken#KEY}.
+     *
+     * @return The key.
+     */
+    String key();
+
+    /**
+     * Get the current scalar decoded to a node,
+     * only valid if the current token is {@link RawToken#SCALAR}.
+     *
+     * @return The node.
+     */
+    RawValueNode<?> scalar();
+
+    /**
+     * Get the current scalar decoded directly as
+     * the given expected type where possible, only valid
+     * if the current token is {@link RawToken#SCALAR}.
+     *
+     * @param expectedType The expected value type, or null if unknown.
+     * @return The node.
+     */
+    default RawValueNode<?> scalar(Class<?> expectedType) {
+        return scalar();
+    }
+
+    /**
+     * Get the source of the current token.
+     *
+     * @return The source.
+     */
+    NodeSource source();
+
+    @Override
+    void close();
+
+    /**
+     * Skips the next value including all
+     * of its children.
+     */
+    default void skipValue() {
+        int depth = 0;
+        do {
+            switch (next()) {
+                case START_OBJECT, START_LIST -> depth++;
+                case END_OBJECT, END_LIST -> depth--;
+                case END_DOCUMENT -> { return; }
+                default -> { }
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Reads the next value into a node tree.
+     *
+     * @return The node, undefined at the end of the document.
+     */
+    default RawNode readValue() {
+        return readValue(next());
+    }
+
+    // read the value starting
+    // with the given token
+    private RawNode readValue(RawToken token) {
+        switch (token) {
+            case SCALAR:
+                return scalar();
+            case START_OBJECT: {
+                RawObjectNode node = new RawObjectNode();
+                node.source(source());
+                while ((token = next()) == RawToken.KEY) {
+                    RawNode keyNode = new RawScalarNode<>(key()).source(source());
+                    node.addElement(new RawPairNode(keyNode, readValue()));
+                }
+
+                expectEnd(token, RawToken.END_OBJECT);
+                return node;
+            }
+            case START_LIST: {
+                RawListNode node = new RawListNode();
+                node.source(source());
+                while ((token = next()) != RawToken.END_LIST && token != RawToken.END_DOCUMENT)
+                    node.addElement(readValue(token));
+
+                expectEnd(token, RawToken.END_LIST);
+                return node;
+            }
+            case END_DOCUMENT:
+                return RawUndefinedNode.undefined().source(source());
+            default:
+                throw new IllegalStateException("Unexpected token " + token + " at " + source().toPrettyString());
+        }
+    }
+
+    private void expectEnd(RawToken token, RawToken expected) {
+        if (token != expected)
+            throw new IllegalStateException("Expected " + expected + ", got " + token + " at " + source().toPrettyString());
+    }
+
+}
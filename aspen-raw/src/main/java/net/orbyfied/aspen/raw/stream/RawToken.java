@@ -0,0 +1,29 @@
+package net.orbyfied.aspen.raw.stream;
+
+/**
+ * The kinds of tokens produced by a {@link RawReader}.
+ */
+public enum RawToken {
+
+    /** The start of an object/map, followed by key-value pairs. */
+    START_OBJECT,
+
+    /** The end of the current object/map. */
+    END_OBJECT,
+
+    /** The start of a list, followed by the elements. */
+    START_LIST,
+
+    /** The end of the current list. */
+    END_LIST,
+
+    /** A key in an object, always followed by a value. */
+    KEY,
+
+    /** A scalar value. */
+    SCALAR,
+
+    /** The end of the document, no more tokens follow. */
+    END_DOCUMENT
+
+}
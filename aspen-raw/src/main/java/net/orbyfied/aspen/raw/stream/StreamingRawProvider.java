@@ -0,0 +1,34 @@
+package net.orbyfied.aspen.raw.stream;
+
+import net.orbyfied.aspen.raw.RawIOContext;
+import net.orbyfied.aspen.raw.RawProvider;
+
+import java.io.Reader;
+
+/**
+ * A raw provider which can read documents as a
+ * stream of tokens instead of composing a node tree.
+ */
+public interface StreamingRawProvider<IC extends RawIOContext> extends RawProvider<IC> {
+
+    /**
+     * Check if documents can be streamed in
+     * the given context with the same result as
+     * {@link #compose(RawIOContext, Reader)}.
+     *
+     * @param context The context.
+     * @return True/false.
+     */
+    boolean canStream(IC context);
+
+    /**
+     * Opens a reader over the input. The
+     * first token is the root value.
+     *
+     * @param context The context.
+     * @param reader The input.
+     * @return The reader.
+     */
+    RawReader openReader(IC context, Reader reader);
+
+}
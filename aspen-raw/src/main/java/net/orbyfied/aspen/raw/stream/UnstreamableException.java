@@ -0,0 +1,15 @@
+package net.orbyfied.aspen.raw.stream;
+
+/**
+ * Thrown by a {@link RawReader} when the document
+ * uses a construct which can not be read as a stream,
+ * like YAML aliases. The caller should fall back to
+ * composing the full node tree.
+ */
+public class UnstreamableException extends RuntimeException {
+
+    public UnstreamableException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,138 @@
+package net.orbyfied.aspen.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Utilities for replacing files atomically.
+ */
+public class AtomicFiles {
+
+    // static utility class
+    // no instantiating
+    private AtomicFiles() { }
+
+    // the buffer size of the writers
+    static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Writes the file by writing a temporary file in the same
+     * directory through a buffered UTF-8 writer and then moving
+     * it over the target, so the target always holds either the
+     * old or the new content, even if the process crashes.
+     *
+     * If the file system does not support atomic moves the
+     * temporary file is moved over the target non-atomically.
+     * The temporary file gets the POSIX permissions and, where
+     * permitted, the owner of the target before it replaces it.
+     *
+     * @param target The file to write.
+     * @param force Whether to force the content to the storage
+     *              device before replacing the target, and the
+     *              directory entry after replacing it.
+     * @param consumer The consumer writing the content.
+     * @throws IOException If writing or moving fails.
+     */
+    public static void write(Path target, boolean force, ThrowingConsumer<Writer> consumer) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+
+        Path temp = createTemp(dir, target);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE);
+                try {
+                    consumer.accept(writer);
+                } catch (Throwable t) {
+                    Throwables.sneakyThrow(t);
+                }
+
+                writer.flush();
+                if (force)
+                    channel.force(true);
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            // make the rename itself durable
+            if (force)
+                forceDirectory(dir);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // create the temporary file for the given target, with
+    // the permissions and owner of the target if it exists,
+    // or the default permissions for new files otherwise
+    static Path createTemp(Path dir, Path target) throws IOException {
+        Path temp;
+        while (true) {
+            temp = dir.resolve("." + target.getFileName() + "." +
+                    Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+            try {
+                Files.createFile(temp);
+                break;
+            } catch (FileAlreadyExistsException ignored) {
+                // try another name
+            }
+        }
+
+        try {
+            copyAttributes(target, temp);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        return temp;
+    }
+
+    // copy the permissions and owner of the source file
+    // to the destination, if it exists and the file system
+    // supports them
+    static void copyAttributes(Path source, Path dest) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        PosixFileAttributeView destView = Files.getFileAttributeView(dest, PosixFileAttributeView.class);
+        if (sourceView == null || destView == null || !Files.exists(source))
+            return;
+
+        PosixFileAttributes attributes = sourceView.readAttributes();
+        destView.setPermissions(attributes.permissions());
+
+        // changing the owner requires privileges
+        // we usually do not have, so it is best effort
+        try {
+            destView.setOwner(attributes.owner());
+        } catch (IOException | SecurityException ignored) { }
+        try {
+            destView.setGroup(attributes.group());
+        } catch (IOException | SecurityException ignored) { }
+    }
+
+    // force the entries of the given directory to the storage
+    // device, not supported on all platforms like Windows
+    static void forceDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) { }
+    }
+
+}
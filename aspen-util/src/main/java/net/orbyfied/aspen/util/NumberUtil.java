@@ -16,4 +16,74 @@ public class NumberUtil {
         throw new IllegalArgumentException("Goofy number type " + tClass);
     }
 
+    /**
+     * Check whether the given floating point value
+     * is integral and fits a {@code long} exactly.
+     *
+     * @param number The value.
+     * @return Whether it is an exact long.
+     */
+    public static boolean isExactLong(double number) {
+        return number == Math.rint(number) && number >= -0x1p63 && number < 0x1p63;
+    }
+
+    /**
+     * Box the given integral value into the given
+     * boxed number type without an intermediate wrapper.
+     *
+     * @param number The value.
+     * @param tClass The boxed number type.
+     * @return The boxed value.
+     * @throws ArithmeticException If the value does not fit the type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Number> T boxLong(long number,
+                                               Class<T> tClass) {
+        if (tClass == Long.class) return (T) Long.valueOf(number);
+        if (tClass == Integer.class) return (T) Integer.valueOf(Math.toIntExact(number));
+        if (tClass == Double.class) return (T) Double.valueOf(number);
+        if (tClass == Float.class) return (T) Float.valueOf(number);
+        if (tClass == Short.class) {
+            if (number < Short.MIN_VALUE || number > Short.MAX_VALUE)
+                throw new ArithmeticException("short overflow: " + number);
+            return (T) Short.valueOf((short) number);
+        }
+        if (tClass == Byte.class) {
+            if (number < Byte.MIN_VALUE || number > Byte.MAX_VALUE)
+                throw new ArithmeticException("byte overflow: " + number);
+            return (T) Byte.valueOf((byte) number);
+        }
+
+        throw new IllegalArgumentException("Goofy number type " + tClass);
+    }
+
+    /**
+     * Box the given floating point value into the given
+     * boxed number type without an intermediate wrapper.
+     * Integral types only accept integral values.
+     *
+     * @param number The value.
+     * @param tClass The boxed number type.
+     * @return The boxed value.
+     * @throws ArithmeticException If the value does not fit the type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Number> T boxDouble(double number,
+                                                 Class<T> tClass) {
+        if (tClass == Double.class) return (T) Double.valueOf(number);
+        if (tClass == Float.class) {
+            if (Double.isFinite(number) && Math.abs(number) > Float.MAX_VALUE)
+                throw new ArithmeticException("float overflow: " + number);
+            return (T) Float.valueOf((float) number);
+        }
+        if (tClass == Long.class || tClass == Integer.class ||
+                tClass == Short.class || tClass == Byte.class) {
+            if (!isExactLong(number))
+                throw new ArithmeticException("not an exact integer: " + number);
+            return boxLong((long) number, tClass);
+        }
+
+        throw new IllegalArgumentException("Goofy number type " + tClass);
+    }
+
 }
@@ -1,11 +1,14 @@
 package net.orbyfied.aspen.raw;
 
 import net.orbyfied.aspen.raw.format.JLSSFormat;
+import net.orbyfied.aspen.raw.format.ScalarStyle;
 import net.orbyfied.aspen.raw.format.StringScalarFormat;
 import net.orbyfied.aspen.raw.format.StringScalarRepresentation;
 import net.orbyfied.aspen.raw.impl.NodeSpecProvider;
 import net.orbyfied.aspen.raw.impl.StringScalarProvider;
 import net.orbyfied.aspen.raw.nodes.*;
+import net.orbyfied.aspen.raw.stream.RawReader;
+import net.orbyfied.aspen.raw.stream.StreamingRawProvider;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
@@ -15,6 +18,7 @@ import org.yaml.snakeyaml.constructor.BaseConstructor;
 import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.nodes.*;
 import org.yaml.snakeyaml.representer.Representer;
+import org.yaml.snakeyaml.resolver.Resolver;
 
 import java.io.Reader;
 import java.io.Writer;
@@ -29,7 +33,7 @@ import static net.orbyfied.aspen.raw.YamlSupport.*;
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public class YamlRawProvider
         extends NodeSpecProvider<RawIOContext, Node>
-        implements StringScalarProvider<RawIOContext>
+        implements StringScalarProvider<RawIOContext>, StreamingRawProvider<RawIOContext>
 {
 
     public static Builder builder() {
@@ -42,6 +46,7 @@ public class YamlRawProvider
         /* YAML properties */
         BaseConstructor constructor;
         Representer representer;
+        Resolver resolver;
         LoaderOptions loaderOptions = new LoaderOptions();
         DumperOptions dumperOptions = new DumperOptions();
         DumperOptions.ScalarStyle mapKeyStyle = DumperOptions.ScalarStyle.PLAIN;
@@ -73,6 +78,15 @@ public class YamlRawProvider
             return this;
         }
 
+        public Resolver getResolver() {
+            return resolver;
+        }
+
+        public Builder setResolver(Resolver resolver) {
+            this.resolver = resolver;
+            return this;
+        }
+
         public LoaderOptions getLoaderOptions() {
             return loaderOptions;
         }
@@ -144,9 +158,12 @@ public class YamlRawProvider
                 constructor = new Constructor(loaderOptions);
             if (representer == null)
                 representer = new Representer(dumperOptions);
+            if (resolver == null)
+                resolver = new Resolver();
 
             YamlRawProvider i = new YamlRawProvider(
-                    new Yaml(constructor, representer, dumperOptions, loaderOptions)
+                    new Yaml(constructor, representer, dumperOptions, loaderOptions, resolver),
+                    resolver
             );
 
             // set properties
@@ -166,6 +183,10 @@ public class YamlRawProvider
     // the yaml instance
     final Yaml yaml;
 
+    // the resolver used to determine
+    // the implicit tags of plain scalars
+    final Resolver resolver;
+
     /* settings */
     DumperOptions.ScalarStyle mapKeyStyle;
     DumperOptions.FlowStyle mapFlowStyle;
@@ -173,19 +194,9 @@ public class YamlRawProvider
     boolean spacedComments;
     StringScalarFormat stringScalarFormat;
 
-    /*
-        TODO: fix bug with saving scalar style
-         which causes it to not be applied idk
-         why that happens but it does for some
-         fucking reason im explicitly setting the
-         style on the fucking node stupid snakeyaml
-         but no that not enough i probably have to
-         extend or configure some stupid serializer
-         object or something idk
-     */
-
-    YamlRawProvider(Yaml yaml) {
+    YamlRawProvider(Yaml yaml, Resolver resolver) {
         this.yaml = yaml;
+        this.resolver = resolver;
     }
 
     @Override
@@ -203,6 +214,18 @@ public class YamlRawProvider
         return yaml.compose(reader);
     }
 
+    @Override
+    public boolean canStream(RawIOContext context) {
+        // transformers work on the
+        // composed snakeyaml nodes
+        return !hasTransformers();
+    }
+
+    @Override
+    public RawReader openReader(RawIOContext context, Reader reader) {
+        return new YamlRawReader(this, context, reader, yaml.parse(reader));
+    }
+
     /*
         Node Tree Conversions
      */
@@ -218,16 +241,21 @@ public class YamlRawProvider
         return out;
     }
 
+    // get the tag to serialize a scalar with, plain
+    // scalars need their implicitly resolved tag or
+    // the serializer will fall back to quoting them
+    Tag scalarTag(StringScalarRepresentation repr) {
+        if (repr.style() == ScalarStyle.PLAIN && repr.string() != null)
+            return resolver.resolve(NodeId.scalar, repr.string(), true);
+        return Tag.STR;
+    }
+
     org.yaml.snakeyaml.nodes.Node putProperties(RawNode src, org.yaml.snakeyaml.nodes.Node res) {
         // comments //
         if (src.blockCommentLines() != null) res.setBlockComments(toCommentLines(src.blockCommentLines(), CommentType.BLOCK));
         if (src.inLineCommentLines() != null) res.setInLineComments(toCommentLines(src.inLineCommentLines(), CommentType.IN_LINE));
         if (src.endCommentLines() != null) res.setEndComments(toCommentLines(src.endCommentLines(), CommentType.BLOCK));
 
-        if (res instanceof ScalarNode scalarNode) {
-            System.out.println("dumped scalar yaml(" + res + ") style(" + scalarNode.getScalarStyle() + ")");
-        }
-
         return res;
     }
 
@@ -266,7 +294,7 @@ public class YamlRawProvider
         if (rawNode instanceof RawScalarNode valueNode) {
             StringScalarRepresentation repr = stringScalarFormat()
                     .dump(valueNode);
-            return putProperties(rawNode, new ScalarNode(Tag.STR, repr.string(), null, null,
+            return putProperties(rawNode, new ScalarNode(scalarTag(repr), repr.string(), null, null,
                     toYamlScalarStyle(repr.style())));
         }
 
@@ -274,7 +302,7 @@ public class YamlRawProvider
         if (rawNode instanceof RawUndefinedNode valueNode) {
             StringScalarRepresentation repr = stringScalarFormat()
                     .dump(valueNode);
-            return putProperties(rawNode, new ScalarNode(Tag.STR, repr.string(), null, null,
+            return putProperties(rawNode, new ScalarNode(scalarTag(repr), repr.string(), null, null,
                     toYamlScalarStyle(repr.style())));
         }
 
@@ -288,14 +316,14 @@ public class YamlRawProvider
         if (yamlNode instanceof MappingNode mappingNode) {
             RawObjectNode mapNode = new RawObjectNode();
             for (NodeTuple tuple : mappingNode.getValue()) {
-                mapNode.getNodes().add(
+                mapNode.addElement(
                         new RawPairNode(
                                 toRaw(context, tuple.getKeyNode()),
                                 toRaw(context, tuple.getValueNode()))
                 );
             }
 
-            return mapNode.source(newNodeSource(mappingNode.getStartMark()));
+            return mapNode.source(newNodeSource(mappingNode.getStartMark(), context.fileInfo()));
         }
 
         // collection node
@@ -308,7 +336,7 @@ public class YamlRawProvider
                     listNode.addElement(new RawScalarNode(item));
             }
 
-            return listNode.source(newNodeSource(collectionNode.getStartMark()));
+            return listNode.source(newNodeSource(collectionNode.getStartMark(), context.fileInfo()));
         }
 
         // value node
@@ -320,7 +348,7 @@ public class YamlRawProvider
 
             RawValueNode<?> rawScalarNode = stringScalarFormat()
                     .load(repr);
-            return rawScalarNode.source(newNodeSource(scalarNode.getStartMark()));
+            return rawScalarNode.source(newNodeSource(scalarNode.getStartMark(), context.fileInfo()));
         }
 
         // throw exception
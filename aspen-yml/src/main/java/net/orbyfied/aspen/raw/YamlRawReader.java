@@ -0,0 +1,220 @@
+package net.orbyfied.aspen.raw;
+
+import net.orbyfied.aspen.raw.format.StringScalarRepresentation;
+import net.orbyfied.aspen.raw.nodes.RawValueNode;
+import net.orbyfied.aspen.raw.source.NodeSource;
+import net.orbyfied.aspen.raw.source.FileInfo;
+import net.orbyfied.aspen.raw.stream.RawReader;
+import net.orbyfied.aspen.raw.stream.RawToken;
+import net.orbyfied.aspen.raw.stream.UnstreamableException;
+import net.orbyfied.aspen.util.Throwables;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static net.orbyfied.aspen.raw.YamlSupport.*;
+
+/**
+ * A {@link RawReader} over the SnakeYAML parser events.
+ */
+final class YamlRawReader implements RawReader {
+
+    /* Frame States */
+    static final byte MAP_KEY = 0;
+    static final byte MAP_VALUE = 1;
+    static final byte LIST = 2;
+
+    // the provider
+    final YamlRawProvider provider;
+
+    // the context to read in
+    final RawIOContext context;
+
+    // the input
+    final Reader input;
+
+    // the file shared by all sources
+    final FileInfo file;
+
+    // the parser events
+    final Iterator<Event> events;
+
+    // the stack of open collections
+    byte[] frames = new byte[16];
+    int depth;
+
+    // the current token and event
+    RawToken token;
+    Event event;
+
+    // the peeked token and event, if any
+    RawToken peekedToken;
+    Event peekedEvent;
+
+    // the source of the current token,
+    // lazily created
+    NodeSource source;
+
+    YamlRawReader(YamlRawProvider provider, RawIOContext context, Reader input, Iterable<Event> events) {
+        this.provider = provider;
+        this.context = context;
+        this.input = input;
+        this.file = context.fileInfo();
+        this.events = events.iterator();
+    }
+
+    @Override
+    public RawToken next() {
+        source = null;
+        if (peekedToken != null) {
+            token = peekedToken;
+            event = peekedEvent;
+            peekedToken = null;
+            peekedEvent = null;
+            return token;
+        }
+
+        Event e = nextEvent();
+        event = e;
+        return token = translate(e);
+    }
+
+    @Override
+    public RawToken peek() {
+        if (peekedToken == null) {
+            Event e = nextEvent();
+            peekedEvent = e;
+            peekedToken = translate(e);
+        }
+
+        return peekedToken;
+    }
+
+    @Override
+    public String key() {
+        if (token != RawToken.KEY)
+            throw new IllegalStateException("Current token is not a key");
+        return ((ScalarEvent) event).getValue();
+    }
+
+    @Override
+    public RawValueNode<?> scalar() {
+        return scalar(null);
+    }
+
+    @Override
+    public RawValueNode<?> scalar(Class<?> expectedType) {
+        if (token != RawToken.SCALAR)
+            throw new IllegalStateException("Current token is not a scalar");
+        ScalarEvent scalarEvent = (ScalarEvent) event;
+        StringScalarRepresentation repr = new StringScalarRepresentation(
+                scalarEvent.getValue(),
+                fromYamlScalarStyle(scalarEvent.getScalarStyle())
+        );
+
+        RawValueNode<?> node = provider.stringScalarFormat().load(repr, expectedType);
+        node.source(source());
+        return node;
+    }
+
+    @Override
+    public NodeSource source() {
+        if (source == null) {
+            source = newNodeSource(event != null ? event.getStartMark() : null, file);
+        }
+
+        return source;
+    }
+
+    @Override
+    public void close() {
+        try {
+            input.close();
+        } catch (Exception e) {
+            Throwables.sneakyThrow(e);
+        }
+    }
+
+    // get the next event which produces
+    // a token, or null at the end of the document
+    Event nextEvent() {
+        while (events.hasNext()) {
+            Event e = events.next();
+            switch (e.getEventId()) {
+                case Scalar, MappingStart, MappingEnd,
+                        SequenceStart, SequenceEnd, Alias -> { return e; }
+                case DocumentEnd, StreamEnd -> { return null; }
+                default -> { }
+            }
+        }
+
+        return null;
+    }
+
+    // translate the given event to a token,
+    // updating the collection stack
+    RawToken translate(Event e) {
+        if (e == null)
+            return RawToken.END_DOCUMENT;
+        switch (e.getEventId()) {
+            case Scalar -> {
+                if (depth > 0 && frames[depth - 1] == MAP_KEY) {
+                    frames[depth - 1] = MAP_VALUE;
+                    return RawToken.KEY;
+                }
+
+                valueDone();
+                return RawToken.SCALAR;
+            }
+
+            case MappingStart -> {
+                checkNotKey();
+                push(MAP_KEY);
+                return RawToken.START_OBJECT;
+            }
+
+            case SequenceStart -> {
+                checkNotKey();
+                push(LIST);
+                return RawToken.START_LIST;
+            }
+
+            case MappingEnd -> {
+                depth--;
+                valueDone();
+                return RawToken.END_OBJECT;
+            }
+
+            case SequenceEnd -> {
+                depth--;
+                valueDone();
+                return RawToken.END_LIST;
+            }
+
+            case Alias -> throw new UnstreamableException("YAML aliases can not be streamed");
+            default -> throw new IllegalStateException("Unexpected event " + e);
+        }
+    }
+
+    void checkNotKey() {
+        if (depth > 0 && frames[depth - 1] == MAP_KEY)
+            throw new UnstreamableException("Complex YAML keys can not be streamed");
+    }
+
+    void push(byte frame) {
+        if (depth == frames.length)
+            frames = Arrays.copyOf(frames, depth * 2);
+        frames[depth++] = frame;
+    }
+
+    // mark the value in the
+    // current mapping as read
+    void valueDone() {
+        if (depth > 0 && frames[depth - 1] == MAP_VALUE)
+            frames[depth - 1] = MAP_KEY;
+    }
+
+}
@@ -2,7 +2,6 @@ package net.orbyfied.aspen.raw;
 
 import net.orbyfied.aspen.raw.format.ScalarStyle;
 import net.orbyfied.aspen.raw.source.FileInfo;
-import net.orbyfied.aspen.raw.source.FileLocation;
 import net.orbyfied.aspen.raw.source.NodeSource;
 import net.orbyfied.aspen.raw.source.ReadNodeSource;
 import org.yaml.snakeyaml.DumperOptions;
@@ -17,12 +16,21 @@ public class YamlSupport {
     public static NodeSource newNodeSource(Mark a) {
         if (a == null)
             return new ReadNodeSource();
-        return new ReadNodeSource()
-                .location(new FileLocation(
-                        new FileInfo().setName(a.getName()),
-                        a.getLine(),
-                        a.getColumn()
-                ));
+        return newNodeSource(a, new FileInfo().setName(a.getName()));
+    }
+
+    /**
+     * Creates a node source for the given mark
+     * in the given, shared file.
+     *
+     * @param a The mark.
+     * @param file The file info.
+     * @return The source.
+     */
+    public static NodeSource newNodeSource(Mark a, FileInfo file) {
+        if (a == null)
+            return new ReadNodeSource();
+        return new ReadNodeSource(file, a.getLine(), a.getColumn());
     }
 
     public static DumperOptions.ScalarStyle toYamlScalarStyle(ScalarStyle style) {